@@ -0,0 +1,101 @@
+package org.solitaire.execution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.solitaire.model.Board;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The hot operations of a board, measured on a fixed state: the initial board of a deal from the games/ corpus,
+ * advanced by up to the given number of moves, taking the first candidate that leads to a board with candidates of
+ * its own each time, so the state always has a candidate to update by. The state only depends on the deal, so runs
+ * before and after a change measure the same boards.
+ * <p>
+ * updateBoard() mutates its board, so it is measured on a fresh copy, and its own cost is the difference to copy().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class BoardBenchmark<U, T extends Board<?, U>> {
+    @Param({"0", "20"})
+    public int moves;
+
+    private T board;
+    private U candidate;
+
+    protected abstract T initialBoard();
+
+    protected abstract T copy(T board);
+
+    protected abstract void resetScore(T board);
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        board = initialBoard();
+        for (int i = 0; i < moves; i++) {
+            var next = board.findCandidates().stream()
+                    .map(it -> (T) copy(board).updateBoard(it))
+                    .filter(Objects::nonNull)
+                    .filter(this::hasCandidates)
+                    .findFirst();
+
+            if (next.isEmpty()) {
+                break;
+            }
+            board = next.get();
+        }
+        candidate = board.findCandidates().stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("No candidate on the initial board!"));
+    }
+
+    /**
+     * Whether the board can be moved on from; a board that refuses to find its candidates, as Spider does when a row is
+     * due with a column empty, counts as stuck.
+     */
+    private boolean hasCandidates(T board) {
+        try {
+            return !board.findCandidates().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public List<U> findCandidates() {
+        return board.findCandidates();
+    }
+
+    @Benchmark
+    public Board<?, U> updateBoard() {
+        return copy(board).updateBoard(candidate);
+    }
+
+    @Benchmark
+    public T copy() {
+        return copy(board);
+    }
+
+    @Benchmark
+    public int score() {
+        resetScore(board);
+        return board.score();
+    }
+}
@@ -0,0 +1,26 @@
+package org.solitaire.freecell;
+
+import org.solitaire.execution.BoardBenchmark;
+import org.solitaire.model.Candidate;
+
+import static org.solitaire.freecell.FreeCellHelper.build;
+import static org.solitaire.util.IOHelper.loadFile;
+
+public class FreeCellBoardBenchmark extends BoardBenchmark<Candidate, FreeCellBoard> {
+    private static final String TEST_FILE = "games/freecell/freecell-easy-020623.txt";
+
+    @Override
+    protected FreeCellBoard initialBoard() {
+        return build(loadFile(TEST_FILE)).board();
+    }
+
+    @Override
+    protected FreeCellBoard copy(FreeCellBoard board) {
+        return new FreeCellBoard(board);
+    }
+
+    @Override
+    protected void resetScore(FreeCellBoard board) {
+        board.resetScore();
+    }
+}
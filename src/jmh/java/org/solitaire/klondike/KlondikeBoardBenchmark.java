@@ -0,0 +1,26 @@
+package org.solitaire.klondike;
+
+import org.solitaire.execution.BoardBenchmark;
+import org.solitaire.model.Candidate;
+
+import static org.solitaire.klondike.KlondikeHelper.build;
+import static org.solitaire.util.IOHelper.loadFile;
+
+public class KlondikeBoardBenchmark extends BoardBenchmark<Candidate, KlondikeBoard> {
+    private static final String TEST_FILE = "games/klondike/klondike-medium-122822.txt";
+
+    @Override
+    protected KlondikeBoard initialBoard() {
+        return build(loadFile(TEST_FILE)).board();
+    }
+
+    @Override
+    protected KlondikeBoard copy(KlondikeBoard board) {
+        return new KlondikeBoard(board);
+    }
+
+    @Override
+    protected void resetScore(KlondikeBoard board) {
+        board.resetScore();
+    }
+}
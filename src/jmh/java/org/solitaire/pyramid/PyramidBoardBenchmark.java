@@ -0,0 +1,26 @@
+package org.solitaire.pyramid;
+
+import org.solitaire.execution.BoardBenchmark;
+import org.solitaire.model.Candidate;
+
+import static org.solitaire.pyramid.PyramidHelper.build;
+import static org.solitaire.util.IOHelper.loadFile;
+
+public class PyramidBoardBenchmark extends BoardBenchmark<Candidate, PyramidBoard> {
+    private static final String TEST_FILE = "games/pyramid/pyramid-expert-121122-2.txt";
+
+    @Override
+    protected PyramidBoard initialBoard() {
+        return build(loadFile(TEST_FILE)).board();
+    }
+
+    @Override
+    protected PyramidBoard copy(PyramidBoard board) {
+        return new PyramidBoard(board);
+    }
+
+    @Override
+    protected void resetScore(PyramidBoard board) {
+        board.resetScore();
+    }
+}
@@ -0,0 +1,26 @@
+package org.solitaire.spider;
+
+import org.solitaire.execution.BoardBenchmark;
+import org.solitaire.model.Candidate;
+
+import static org.solitaire.spider.SpiderHelper.build;
+import static org.solitaire.util.IOHelper.loadFile;
+
+public class SpiderBoardBenchmark extends BoardBenchmark<Candidate, SpiderBoard> {
+    private static final String TEST_FILE = "games/spider/spider-easy-120322.txt";
+
+    @Override
+    protected SpiderBoard initialBoard() {
+        return build(loadFile(TEST_FILE)).board();
+    }
+
+    @Override
+    protected SpiderBoard copy(SpiderBoard board) {
+        return new SpiderBoard(board);
+    }
+
+    @Override
+    protected void resetScore(SpiderBoard board) {
+        board.resetScore();
+    }
+}
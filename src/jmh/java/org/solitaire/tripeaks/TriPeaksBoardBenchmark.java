@@ -0,0 +1,26 @@
+package org.solitaire.tripeaks;
+
+import org.solitaire.execution.BoardBenchmark;
+import org.solitaire.model.Card;
+
+import static org.solitaire.tripeaks.TriPeaksHelper.build;
+import static org.solitaire.util.IOHelper.loadFile;
+
+public class TriPeaksBoardBenchmark extends BoardBenchmark<Card, TriPeaksBoard> {
+    private static final String TEST_FILE = "games/tripeaks/tripeaks-120822-expert.txt";
+
+    @Override
+    protected TriPeaksBoard initialBoard() {
+        return build(loadFile(TEST_FILE)).board();
+    }
+
+    @Override
+    protected TriPeaksBoard copy(TriPeaksBoard board) {
+        return new TriPeaksBoard(board);
+    }
+
+    @Override
+    protected void resetScore(TriPeaksBoard board) {
+        board.resetScore();
+    }
+}
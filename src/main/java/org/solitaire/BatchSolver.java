@@ -0,0 +1,139 @@
+package org.solitaire;
+
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
+import org.solitaire.model.GameBuilder;
+import org.solitaire.util.IOHelper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+/**
+ * Solves many deals in one JVM on a bounded pool of workers, each deal within its own budget. A result record is
+ * written as one line of JSON as soon as its deal is done, so the output is in the order the deals finish.
+ */
+public class BatchSolver {
+    public static final String FAILED = "FAILED";
+    private static final String COMMENT = "#";
+
+    private final SolverConfig config;
+    private final Budget budget;
+    private final int workers;
+    private final Function<Path, GameBuilder> builders;
+    private final PrintStream out;
+
+    public BatchSolver(SolverConfig config, Budget budget, int workers, Function<Path, GameBuilder> builders,
+                       PrintStream out) {
+        if (workers < 1) {
+            throw new RuntimeException("Invalid number of workers: " + workers);
+        }
+        this.config = config;
+        this.budget = budget;
+        this.workers = workers;
+        this.builders = builders;
+        this.out = out;
+    }
+
+    /**
+     * The deals of a directory, searched recursively for .txt files, or of a manifest file listing one deal per line.
+     * Blank lines and lines starting with '#' in a manifest are skipped, and relative paths are relative to the
+     * manifest.
+     */
+    public static List<Path> findDeals(Path source) {
+        try {
+            if (Files.isDirectory(source)) {
+                try (var files = Files.walk(source)) {
+                    return files.filter(Files::isRegularFile)
+                            .filter(it -> it.toString().endsWith(".txt"))
+                            .sorted()
+                            .toList();
+                }
+            }
+            var dir = Optional.ofNullable(source.getParent()).orElseGet(() -> Path.of(""));
+
+            return Files.readAllLines(source).stream()
+                    .map(String::trim)
+                    .filter(it -> !it.isEmpty() && !it.startsWith(COMMENT))
+                    .map(dir::resolve)
+                    .toList();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    public List<Result> run(List<Path> deals) {
+        var pool = Executors.newFixedThreadPool(workers);
+
+        try {
+            return deals.stream()
+                    .map(it -> CompletableFuture.supplyAsync(() -> solve(it), pool).thenApply(this::report))
+                    .toList()
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Solve one deal; a deal that fails to build or solve is reported as FAILED, including one failing the assertions
+     * the game helpers check a deal's cards by.
+     */
+    protected Result solve(Path deal) {
+        var start = System.nanoTime();
+
+        try {
+            var solver = builders.apply(deal).apply(IOHelper.loadFile(deal.toString()), config);
+            var result = solver.solve(budget, new CancellationToken());
+
+            return new Result(deal.toString(), result.status().name(), elapsedMillis(start), result.totalScenarios(),
+                    result.totalSolutions(), solver.pathString(result.path()), null);
+        } catch (RuntimeException | AssertionError ex) {
+            return new Result(deal.toString(), FAILED, elapsedMillis(start), 0, 0, null, String.valueOf(ex));
+        }
+    }
+
+    private Result report(Result result) {
+        synchronized (out) {
+            out.println(result.toJson());
+            out.flush();
+        }
+        return result;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * The outcome of one deal: the status of its solve, or FAILED with the error when it could not be solved.
+     */
+    public record Result(String deal, String status, long millis, int scenarios, int solutions, String path,
+                         String error) {
+        public String toJson() {
+            return format("{\"deal\": %s, \"status\": \"%s\", \"millis\": %d, \"scenarios\": %d, \"solutions\": %d, "
+                            + "\"path\": %s%s}",
+                    quote(deal), status, millis, scenarios, solutions, quote(path),
+                    nonNull(error) ? ", \"error\": " + quote(error) : "");
+        }
+
+        private static String quote(String text) {
+            return Optional.ofNullable(text)
+                    .map(it -> it.replace("\\", "\\\\").replace("\"", "\\\"").replaceAll("[\\x00-\\x1f]", " "))
+                    .map(it -> "\"" + it + "\"")
+                    .orElse("null");
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package org.solitaire;
 
 import org.apache.commons.lang3.time.StopWatch;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.freecell.DealRange;
 import org.solitaire.freecell.FreeCellHelper;
 import org.solitaire.klondike.KlondikeHelper;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
 import org.solitaire.model.GameBuilder;
 import org.solitaire.model.GameSolver;
 import org.solitaire.model.SolutionType;
 import org.solitaire.pyramid.PyramidHelper;
 import org.solitaire.spider.SpiderHelper;
 import org.solitaire.tripeaks.TriPeaksHelper;
-import org.solitaire.util.CardHelper;
 import org.solitaire.util.IOHelper;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -21,8 +26,6 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.stream.IntStream.range;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.model.SolutionType.Longest;
 import static org.solitaire.model.SolutionType.One;
 import static org.solitaire.model.SolutionType.Shortest;
@@ -37,6 +40,21 @@ public class SolitaireApp {
     public static final String USE_SUITS = "-suits";
     public static final String SINGLE_SOLUTION = "-single";
     public static final String PRINT = "-print";
+    public static final String DEDUP = "-dedup";
+    public static final String BEST_FIRST = "-astar";
+    public static final String PARALLEL = "-parallel";
+    public static final String IN_PLACE = "-inplace";
+    public static final String PROGRESS = "-progress";
+    public static final String NO_AUTO_PLAY = "-noautoplay";
+    public static final String OPTIMAL = "-optimal";
+    public static final String HIGH_SCORE = "-highscore";
+    public static final String BATCH = "-batch";
+    public static final String DEALS = "-deals";
+    public static final String WORKERS = "-workers";
+    public static final String TIME_LIMIT = "-timeLimit";
+    public static final int BATCH_TIME_LIMIT = 60;
+    public static final int DEDUP_SIZE = 1 << 22;
+    public static final int PROGRESS_INTERVAL = 10;
 
     private static final Map<String, GameBuilder> BUILDERS = new HashMap<>() {{
         put(TRIPEAKS, TriPeaksHelper::build);
@@ -45,9 +63,16 @@ public class SolitaireApp {
         put(KLONDIKE, KlondikeHelper::build);
         put(FREECELL, FreeCellHelper::build);
     }};
+    private static final Map<String, String> GAME_DIRS = Map.of(
+            "tripeaks", TRIPEAKS,
+            "pyramid", PYRAMID,
+            "spider", SPIDER,
+            "klondike", KLONDIKE,
+            "freecell", FREECELL);
 
     private static final SolitaireApp app = new SolitaireApp();
     private GameSolver solver;
+    private SolverConfig config;
     @SuppressWarnings("rawtypes")
     private final Function<SolutionType, Supplier<List>> pathSupplier = type ->
             switch (type) {
@@ -61,19 +86,73 @@ public class SolitaireApp {
     }
 
     public static void main(String[] args) {
-        app().run(args);
+        if (checkParam(args, BATCH)) {
+            app().runBatch(args);
+        } else if (checkParam(args, DEALS)) {
+            app().runDeals(args);
+        } else {
+            app().run(args);
+        }
+    }
+
+    public static SolverConfig buildConfig(String[] args) {
+        return Optional.of(SolverConfig.DEFAULT)
+                .map(it -> checkUseSuits(args, it))
+                .map(it -> checkSingleSolution(args, it))
+                .map(it -> checkPrint(args, it))
+                .map(it -> checkDedup(args, it))
+                .map(it -> checkBestFirst(args, it))
+                .map(it -> checkParallel(args, it))
+                .map(it -> checkInPlace(args, it))
+                .map(it -> checkProgress(args, it))
+                .map(it -> checkAutoPlay(args, it))
+                .map(it -> checkOptimal(args, it))
+                .map(it -> checkHighScoring(args, it))
+                .orElseThrow();
+    }
+
+    public static SolverConfig checkUseSuits(String[] args, SolverConfig config) {
+        return config.useSuit(checkParam(args, USE_SUITS));
+    }
+
+    public static SolverConfig checkSingleSolution(String[] args, SolverConfig config) {
+        return config.singleSolution(checkParam(args, SINGLE_SOLUTION));
+    }
+
+    public static SolverConfig checkPrint(String[] args, SolverConfig config) {
+        return config.isPrint(checkParam(args, PRINT));
+    }
+
+    public static SolverConfig checkBestFirst(String[] args, SolverConfig config) {
+        return config.bestFirst(checkParam(args, BEST_FIRST));
     }
 
-    public static void checkUseSuits(String[] args) {
-        CardHelper.useSuit(checkParam(args, USE_SUITS));
+    public static SolverConfig checkParallel(String[] args, SolverConfig config) {
+        return config.parallelism(checkParam(args, PARALLEL) ? Runtime.getRuntime().availableProcessors() : 0);
     }
 
-    public static void checkSingleSolution(String[] args) {
-        singleSolution(checkParam(args, SINGLE_SOLUTION));
+    public static SolverConfig checkInPlace(String[] args, SolverConfig config) {
+        return config.inPlace(checkParam(args, IN_PLACE));
     }
 
-    public static void checkPrint(String[] args) {
-        isPrint(checkParam(args, PRINT));
+    public static SolverConfig checkProgress(String[] args, SolverConfig config) {
+        return config.progressInterval(checkParam(args, PROGRESS) ? PROGRESS_INTERVAL : 0);
+    }
+
+    public static SolverConfig checkAutoPlay(String[] args, SolverConfig config) {
+        return config.autoPlay(!checkParam(args, NO_AUTO_PLAY));
+    }
+
+    public static SolverConfig checkOptimal(String[] args, SolverConfig config) {
+        return config.optimal(checkParam(args, OPTIMAL));
+    }
+
+    public static SolverConfig checkHighScoring(String[] args, SolverConfig config) {
+        return config.highScoring(checkParam(args, HIGH_SCORE));
+    }
+
+    public static SolverConfig checkDedup(String[] args, SolverConfig config) {
+        return config.transpositionSize(checkParam(args, DEDUP) ? DEDUP_SIZE : 0);
     }
 
     private static boolean checkParam(String[] args, String target) {
@@ -88,6 +167,14 @@ public class SolitaireApp {
         this.stopWatch = stopWatch;
     }
 
+    public SolverConfig config() {
+        return config;
+    }
+
+    public void config(SolverConfig config) {
+        this.config = config;
+    }
+
     public GameSolver solver() {
         return solver;
     }
@@ -97,35 +184,99 @@ public class SolitaireApp {
     }
 
     public void run(String[] args) {
-        Function<String[], GameSolver> buildSolver = it -> getGameBuilder(args).apply(it);
+        Function<String[], GameSolver> buildSolver = it -> getGameBuilder(args).apply(it, config());
 
         stopWatch(new StopWatch());
 
         stopWatch().start();
-        checkUseSuits(args);
-        checkSingleSolution(args);
-        checkPrint(args);
+        config(buildConfig(args));
         solver(Optional.of(getPath(args))
                 .map(IOHelper::loadFile)
                 .map(buildSolver)
                 .orElseThrow());
-        solver().solve();
+        solver().solve(getSolveBudget(args), new CancellationToken());
 
         stopWatch().stop();
 
         System.out.printf("Solving %s\n", args[0]);
         System.out.printf("Found %,d solutions in %,d scenarios - total time: %s",
                 solver().totalSolutions(), solver().totalScenarios(), stopWatch.formatTime());
-        if (singleSolution())
+        if (config().singleSolution())
             System.out.println(".");
         else {
             System.out.printf(" with maximum depth of %d.\n", solver().maxDepth());
         }
-        checkPath(solver, singleSolution() ? One : Shortest);
-        if (!singleSolution()) {
+        checkPath(solver, config().singleSolution() ? One : Shortest);
+        if (!config().singleSolution()) {
             checkPath(solver, Longest);
             checkMaxScore(solver());
         }
+        if (config().highScoring()) {
+            checkHighScore(solver());
+        }
+    }
+
+    /**
+     * Solve the deals of a directory or a manifest concurrently, each within the time limit, and stream a JSON record
+     * per deal. The game of a deal is the solver type of the arguments, or else the directory the deal is in.
+     */
+    public List<BatchSolver.Result> runBatch(String[] args) {
+        config(buildConfig(args));
+        return new BatchSolver(config(), getBatchBudget(args), getWorkers(args), it -> getGameBuilder(args, it),
+                System.out)
+                .run(BatchSolver.findDeals(Path.of(getPath(args))));
+    }
+
+    /**
+     * Solve the Microsoft FreeCell deals of a game number range, such as 1..32000, generated in memory, and print
+     * the solve rate with the percentiles of the scenarios and the time per deal.
+     */
+    public DealRange.Summary runDeals(String[] args) {
+        config(buildConfig(args));
+
+        var summary = DealRange.parse(getPath(args), config(), getBatchBudget(args), getWorkers(args)).solve();
+
+        System.out.println(summary);
+        return summary;
+    }
+
+    private static Budget getSolveBudget(String[] args) {
+        return option(args, TIME_LIMIT)
+                .map(Long::parseLong)
+                .map(it -> Budget.UNLIMITED.timeLimit(Duration.ofSeconds(it)))
+                .orElse(Budget.UNLIMITED);
+    }
+
+    private static Budget getBatchBudget(String[] args) {
+        var timeLimit = option(args, TIME_LIMIT).map(Long::parseLong).orElse((long) BATCH_TIME_LIMIT);
+
+        // the solves share the heap, so one running out of it stops alone instead of failing the whole batch
+        return Budget.UNLIMITED
+                .timeLimit(Duration.ofSeconds(timeLimit))
+                .maxMemory(Runtime.getRuntime().maxMemory() / 10 * 9);
+    }
+
+    private static int getWorkers(String[] args) {
+        return option(args, WORKERS).map(Integer::parseInt).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+    }
+
+    private GameBuilder getGameBuilder(String[] args, Path deal) {
+        return Arrays.stream(args, 1, args.length)
+                .filter(BUILDERS::containsKey)
+                .findFirst()
+                .or(() -> Optional.ofNullable(deal.getParent())
+                        .map(Path::getFileName)
+                        .map(Path::toString)
+                        .map(GAME_DIRS::get))
+                .map(BUILDERS::get)
+                .orElseThrow(() -> new RuntimeException("Unknown solver type of " + deal));
+    }
+
+    private static Optional<String> option(String[] args, String name) {
+        return range(1, args.length - 1)
+                .filter(i -> name.equalsIgnoreCase(args[i]))
+                .mapToObj(i -> args[i + 1])
+                .findFirst();
     }
 
     private String getPath(String[] args) {
@@ -163,4 +314,11 @@ public class SolitaireApp {
             System.out.println(ex.getMessage());
         }
     }
+
+    public void checkHighScore(GameSolver solver) {
+        Optional.of(solver)
+                .map(GameSolver::highScore)
+                .ifPresent(it -> System.out.printf("High Score(%,d): %s\n",
+                        it.getLeft(), solver.pathString(it.getRight())));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,238 @@
+package org.solitaire.benchmark;
+
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.freecell.FreeCellHelper;
+import org.solitaire.klondike.KlondikeHelper;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
+import org.solitaire.model.GameBuilder;
+import org.solitaire.model.SolveResult.Status;
+import org.solitaire.pyramid.PyramidHelper;
+import org.solitaire.spider.SpiderHelper;
+import org.solitaire.tripeaks.TriPeaksHelper;
+import org.solitaire.util.IOHelper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.IntStream.range;
+import static org.solitaire.model.SolveResult.Status.EXHAUSTED;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+import static org.solitaire.model.SolveResult.Status.TIMED_OUT;
+
+/**
+ * Solves every deal under the games directory with each of a fixed set of settings, writes the measurements as
+ * JSON, and compares them with a stored baseline run. A measurement that grew by more than the threshold, or a
+ * solve that ended differently, is reported as a regression, and the run exits with 1.
+ * <p>
+ * Usage: CorpusBenchmark [-games dir] [-out file] [-baseline file] [-threshold 0.1] [-timeLimit seconds] [-hsd 4,6,8]
+ */
+public class CorpusBenchmark {
+    public static final String GAMES = "-games";
+    public static final String OUTPUT = "-out";
+    public static final String BASELINE = "-baseline";
+    public static final String THRESHOLD = "-threshold";
+    public static final String TIME_LIMIT = "-timeLimit";
+    public static final String HSD_DEPTHS = "-hsd";
+    public static final String ALL = "all";
+    private static final long MIN_WALL_NANOS = 10_000_000L;
+
+    private static final Map<String, GameBuilder> BUILDERS = Map.of(
+            "tripeaks", TriPeaksHelper::build,
+            "pyramid", PyramidHelper::build,
+            "spider", SpiderHelper::build,
+            "klondike", KlondikeHelper::build,
+            "freecell", FreeCellHelper::build);
+
+    public static void main(String[] args) {
+        if (!new CorpusBenchmark().run(args).isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    public List<String> run(String[] args) {
+        var gamesDir = Path.of(option(args, GAMES, "games"));
+        var budget = Budget.UNLIMITED.timeLimit(Duration.ofSeconds(Long.parseLong(option(args, TIME_LIMIT, "30"))));
+        var settings = settings(option(args, HSD_DEPTHS, "4,6,8"));
+        var results = findDeals(gamesDir)
+                .flatMap(deal -> settings.stream().map(it -> solve(gamesDir, deal, it, budget)))
+                .peek(System.out::println)
+                .toList();
+
+        writeResults(Path.of(option(args, OUTPUT, "build/corpus-benchmark.json")), results);
+
+        var threshold = Double.parseDouble(option(args, THRESHOLD, "0.1"));
+        var regressions = Optional.ofNullable(option(args, BASELINE, null))
+                .map(Path::of)
+                .map(CorpusBenchmark::readResults)
+                .map(it -> regressions(results, it, threshold))
+                .orElseGet(List::of);
+
+        regressions.forEach(it -> System.out.printf("REGRESSION %s\n", it));
+        return regressions;
+    }
+
+    public static List<Setting> settings(String hsdDepths) {
+        return Stream.concat(
+                        Arrays.stream(hsdDepths.split(","))
+                                .map(String::trim)
+                                .map(Integer::parseInt)
+                                .map(it -> new Setting("hsd" + it,
+                                        SolverConfig.DEFAULT.singleSolution(true).hsdDepth(it))),
+                        Stream.of(new Setting(ALL, SolverConfig.DEFAULT)))
+                .toList();
+    }
+
+    public static Stream<Path> findDeals(Path gamesDir) {
+        return BUILDERS.keySet().stream()
+                .sorted()
+                .map(gamesDir::resolve)
+                .filter(Files::isDirectory)
+                .flatMap(CorpusBenchmark::listFiles);
+    }
+
+    private static Stream<Path> listFiles(Path dir) {
+        try (var files = Files.list(dir)) {
+            return files.filter(it -> it.toString().endsWith(".txt")).sorted().toList().stream();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    public static DealResult solve(Path gamesDir, Path deal, Setting setting, Budget budget) {
+        var solver = BUILDERS.get(deal.getParent().getFileName().toString())
+                .apply(IOHelper.loadFile(deal.toString()), setting.config());
+
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        var allocated = allocatedBytes();
+        var start = System.nanoTime();
+        var result = solver.solve(budget, new CancellationToken());
+        var wallNanos = System.nanoTime() - start;
+
+        return new DealResult(gamesDir.relativize(deal).toString().replace('\\', '/'), setting.name(),
+                result.status(), wallNanos, result.totalScenarios(), result.totalSolutions(), peakHeap(),
+                allocatedBytes() - allocated);
+    }
+
+    private static Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream().filter(it -> it.getType() == MemoryType.HEAP);
+    }
+
+    private static long peakHeap() {
+        return heapPools().mapToLong(it -> it.getPeakUsage().getUsed()).sum();
+    }
+
+    /**
+     * The bytes allocated so far by the live threads, the search workers of the common pool included.
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                    .filter(it -> it > 0)
+                    .sum();
+        }
+        return 0;
+    }
+
+    public static void writeResults(Path path, List<DealResult> results) {
+        try {
+            Optional.ofNullable(path.getParent()).ifPresent(CorpusBenchmark::createDirectories);
+            Files.writeString(path, results.stream()
+                    .map(DealResult::toJson)
+                    .map(it -> "  " + it)
+                    .collect(joining(",\n", "[\n", "\n]\n")));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static void createDirectories(Path dir) {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    public static List<DealResult> readResults(Path path) {
+        try (var lines = Files.lines(path)) {
+            return lines.map(DealResult::fromJson).flatMap(Optional::stream).toList();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Compare each result with the baseline result of the same deal and setting. Deals missing from the baseline
+     * are new and not compared.
+     */
+    public static List<String> regressions(List<DealResult> results, List<DealResult> baseline, double threshold) {
+        var baselines = baseline.stream().collect(toMap(DealResult::key, identity(), (a, b) -> b));
+
+        return results.stream()
+                .filter(it -> baselines.containsKey(it.key()))
+                .flatMap(it -> regressions(it, baselines.get(it.key()), threshold).stream()
+                        .map(r -> it.key() + ": " + r))
+                .toList();
+    }
+
+    protected static List<String> regressions(DealResult result, DealResult base, double threshold) {
+        var regressions = new ArrayList<String>();
+
+        if (result.status() != base.status()) {
+            regressions.add(format("status %s -> %s", base.status(), result.status()));
+        } else if (isComplete(result.status())) {
+            if (result.solutions() != base.solutions()) {
+                regressions.add(format("solutions %,d -> %,d", base.solutions(), result.solutions()));
+            }
+            if (result.wallNanos() > MIN_WALL_NANOS) {
+                checkGrowth(regressions, "wall time", result.wallNanos(), base.wallNanos(), threshold);
+            }
+            checkGrowth(regressions, "scenarios", result.scenarios(), base.scenarios(), threshold);
+        } else if (result.status() == TIMED_OUT && result.scenarios() < base.scenarios() * (1 - threshold)) {
+            regressions.add(format("scenarios within the time limit %,d -> %,d", base.scenarios(),
+                    result.scenarios()));
+        }
+        checkGrowth(regressions, "peak heap", result.peakHeap(), base.peakHeap(), threshold);
+        checkGrowth(regressions, "allocated bytes", result.allocatedBytes(), base.allocatedBytes(), threshold);
+        return regressions;
+    }
+
+    private static boolean isComplete(Status status) {
+        return status == SOLVED || status == EXHAUSTED;
+    }
+
+    private static void checkGrowth(List<String> regressions, String name, long value, long base, double threshold) {
+        if (base > 0 && value > base * (1 + threshold)) {
+            regressions.add(format("%s %,d -> %,d (+%.1f%%)", name, base, value, (value - base) * 100.0 / base));
+        }
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        return range(0, args.length - 1)
+                .filter(i -> name.equalsIgnoreCase(args[i]))
+                .mapToObj(i -> args[i + 1])
+                .findFirst()
+                .orElse(defaultValue);
+    }
+
+    public record Setting(String name, SolverConfig config) {
+    }
+}
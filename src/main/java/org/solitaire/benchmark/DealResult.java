@@ -0,0 +1,65 @@
+package org.solitaire.benchmark;
+
+import org.solitaire.model.SolveResult.Status;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * The measurements of solving one deal with one setting, written as one JSON object per line so a stored run can be
+ * read back without a JSON library.
+ *
+ * @param deal           the path of the deal under the games directory
+ * @param setting        the name of the solver setting
+ * @param status         how the solve ended
+ * @param wallNanos      the wall-clock time of the solve
+ * @param scenarios      the boards expanded
+ * @param solutions      the solutions found
+ * @param peakHeap       the peak bytes of used heap during the solve
+ * @param allocatedBytes the bytes allocated by all threads during the solve
+ */
+public record DealResult(String deal,
+                         String setting,
+                         Status status,
+                         long wallNanos,
+                         int scenarios,
+                         int solutions,
+                         long peakHeap,
+                         long allocatedBytes) {
+    private static final Pattern FIELD = Pattern.compile("\"(\\w+)\":\\s*(?:\"([^\"]*)\"|(-?\\d+))");
+
+    public String key() {
+        return deal + " " + setting;
+    }
+
+    public String toJson() {
+        return format("{\"deal\": \"%s\", \"setting\": \"%s\", \"status\": \"%s\", \"wallNanos\": %d, "
+                        + "\"scenarios\": %d, \"solutions\": %d, \"peakHeap\": %d, \"allocatedBytes\": %d}",
+                deal, setting, status, wallNanos, scenarios, solutions, peakHeap, allocatedBytes);
+    }
+
+    public static Optional<DealResult> fromJson(String line) {
+        var fields = new HashMap<String, String>();
+        var matcher = FIELD.matcher(line);
+
+        while (matcher.find()) {
+            fields.put(matcher.group(1), Optional.ofNullable(matcher.group(2)).orElseGet(() -> matcher.group(3)));
+        }
+        return Optional.of(fields)
+                .filter(it -> it.containsKey("deal"))
+                .map(it -> new DealResult(it.get("deal"), it.get("setting"), Status.valueOf(it.get("status")),
+                        Long.parseLong(it.get("wallNanos")), Integer.parseInt(it.get("scenarios")),
+                        Integer.parseInt(it.get("solutions")), Long.parseLong(it.get("peakHeap")),
+                        Long.parseLong(it.get("allocatedBytes"))));
+    }
+
+    @Override
+    public String toString() {
+        return format("%-45s %-12s %-13s %,10dms %,12d scenarios %,10d solutions %,7dMB peak %,9dMB allocated",
+                deal, setting, status, wallNanos / 1_000_000, scenarios, solutions, peakHeap >> 20,
+                allocatedBytes >> 20);
+    }
+}
@@ -0,0 +1,66 @@
+package org.solitaire.execution;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * The open list of the best-first search: boards ordered by their cost, lowest first, with ties going to the most
+ * recently added, so equally promising lines are followed depth first. Once the frontier holds more than its
+ * capacity, the most expensive boards are evicted.
+ */
+public class Frontier<T> {
+    private final NavigableSet<Node<T>> nodes =
+            new TreeSet<>(Comparator.<Node<T>>comparingInt(Node::cost).thenComparing(Node::id, reverseOrder()));
+    private final int capacity;
+    private final ToIntFunction<T> cost;
+    private long sequence = 0;
+    private long evicted = 0;
+
+    public Frontier(int capacity, ToIntFunction<T> cost) {
+        this.capacity = capacity;
+        this.cost = cost;
+    }
+
+    public void add(T board) {
+        nodes.add(new Node<>(board, cost.applyAsInt(board), sequence++));
+        if (nodes.size() > capacity) {
+            nodes.pollLast();
+            evicted++;
+        }
+    }
+
+    public T poll() {
+        return nodes.pollFirst().board();
+    }
+
+    public int peekCost() {
+        return nodes.first().cost();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long evicted() {
+        return evicted;
+    }
+
+    private record Node<T>(T board, int cost, long id) {
+    }
+}
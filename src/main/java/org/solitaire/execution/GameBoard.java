@@ -7,12 +7,17 @@ import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
+import org.solitaire.model.PackedState;
 import org.solitaire.model.Path;
 import org.solitaire.util.BoardHelper;
+import org.solitaire.util.CardHelper;
+import org.solitaire.util.ZobristHelper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Stack;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
@@ -24,10 +29,15 @@ import static java.lang.Math.min;
 import static java.util.Arrays.copyOfRange;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.stream.IntStream.range;
 import static org.solitaire.model.Candidate.columnToColumn;
+import static org.solitaire.model.Origin.COLUMN;
 import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.CardHelper.toArray;
+import static org.solitaire.util.ZobristHelper.key;
+import static org.solitaire.util.ZobristHelper.moveKey;
+import static org.solitaire.util.ZobristHelper.openAtKey;
 
 @Slf4j
 public class GameBoard implements Board<String, Candidate> {
@@ -36,8 +46,14 @@ public class GameBoard implements Board<String, Candidate> {
     public transient final IntPredicate isNotEmpty = i -> column(i).isNotEmpty();
     protected final Path<String> path;
     private transient final Card[][] orderedCards;
+    private transient Stack<Undo> undos;
+    private transient Card[] cardPool;
+    private transient MoveSet moves;
+    private transient int movesAt;
     private transient BiPredicate<Card, Card> isInSequence;
     private transient int score = MIN_VALUE;
+    private transient long hash;
+    private transient boolean hashed;
     private int totalScore;
 
     public GameBoard(Columns columns, Path<String> path) {
@@ -68,9 +84,12 @@ public class GameBoard implements Board<String, Candidate> {
 
     protected void removeIt(Candidate candidate, Column column) {
         var colSize = column.size();
+        var openAt = column.openAt();
 
+        toggleHash(candidate.from(), colSize - candidate.cards().length, candidate.cards());
         column.subList(colSize - candidate.cards().length, colSize).clear();
         column.openAt(min(column.openAt(), column.size() - 1));
+        toggleHash(openAtKey(candidate.from(), openAt) ^ openAtKey(candidate.from(), column.openAt()));
     }
 
     protected void addToTargetColumn(Candidate candidate) {
@@ -78,6 +97,7 @@ public class GameBoard implements Board<String, Candidate> {
         var column = column(candidate.to());
         var openAt = column.openAt();
 
+        toggleHash(candidate.to(), column.size(), cards);
         column(candidate.to()).addAll(List.of(cards));
         column.openAt(openAt);
         resetOrderedCards(candidate.to());
@@ -103,7 +123,7 @@ public class GameBoard implements Board<String, Candidate> {
     }
 
     public boolean isNotRepeatingCandidate(Candidate candidate) {
-        return !path().contains(candidate.notation());
+        return !moves().contains(moveKey(candidate));
     }
 
     protected int targetLen(Candidate candidate) {
@@ -211,10 +231,201 @@ public class GameBoard implements Board<String, Candidate> {
         return null;
     }
 
+    /*************************************************************************************************************
+     * Make/unmake
+     ************************************************************************************************************/
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
+    /**
+     * Update the board in place, recording what {@link #undo(Candidate)} needs to take the candidate back: the scalar
+     * state, the openAt of every column and the game's own state, while the cards are moved back by
+     * {@link #revert(Candidate)}.
+     */
+    @Override
+    public GameBoard apply(Candidate candidate) {
+        if (isNull(undos)) {
+            undos = new Stack<>();
+        }
+        undos.push(new Undo(candidate, hash, hashed, moves(), score, totalScore, path.size(),
+                columns.stream().mapToInt(Column::openAt).toArray(), saveState(), new ArrayList<>(0)));
+        resetCache();
+        updateBoard(candidate);
+        return this;
+    }
+
+    @Override
+    public GameBoard undo(Candidate candidate) {
+        var undo = undos.pop();
+
+        if (undo.candidate() != candidate) {
+            throw new RuntimeException("Undo out of order: " + candidate.notation());
+        }
+        for (int i = undo.reverts().size() - 1; i >= 0; i--) {
+            undo.reverts().get(i).run();
+        }
+        revert(candidate);
+        restoreState(undo.state());
+        range(0, columns.size()).forEach(i -> column(i).openAt(undo.openAts()[i]));
+        while (path.size() > undo.pathSize()) {
+            path.removeLast();
+        }
+        resetCache();
+        score = undo.score();
+        totalScore = undo.totalScore();
+        hash = undo.hash();
+        hashed = undo.hashed();
+        moves = undo.moves();
+        movesAt = undo.pathSize();
+        return this;
+    }
+
+    /**
+     * Move the cards of the candidate back to where they came from; columns are handled here, the other piles by the
+     * games.
+     */
+    protected void revert(Candidate candidate) {
+        if (candidate.target() == COLUMN) {
+            var column = column(candidate.to());
+
+            column.subList(column.size() - candidate.cards().length, column.size()).clear();
+        }
+        if (candidate.origin() == COLUMN) {
+            column(candidate.from()).addAll(List.of(candidate.cards()));
+        }
+    }
+
+    /**
+     * Register how to take back a side effect of the candidate being applied, such as a cleared run or a recycled
+     * deck. Reverts run in reverse order before the candidate itself is reverted.
+     */
+    protected void onUndo(Runnable revert) {
+        if (nonNull(undos) && !undos.isEmpty()) {
+            undos.peek().reverts().add(revert);
+        }
+    }
+
+    protected Object saveState() {
+        return null;
+    }
+
+    protected void restoreState(Object state) {
+    }
+
+    /*************************************************************************************************************
+     * Packing
+     ************************************************************************************************************/
+    @Override
+    public PackedState encode() {
+        var writer = PackedState.writer(CardHelper::cardCode).columns(columns);
+
+        encodeState(writer);
+        return writer.pack();
+    }
+
+    /**
+     * Pack the game's own piles and flags after the columns.
+     */
+    protected void encodeState(PackedState.Writer writer) {
+    }
+
+    @Override
+    public GameBoard decode(PackedState state) {
+        var board = new GameBoard(state.reader(cardPool()).columns(columns.size()), new Path<>());
+
+        board.isInSequence(isInSequence());
+        return board;
+    }
+
+    protected Card[] cardPool() {
+        if (isNull(cardPool)) {
+            cardPool = PackedState.pool(allCards(), CardHelper::cardCode);
+        }
+        return cardPool;
+    }
+
+    protected Stream<Card> allCards() {
+        return columns.stream().flatMap(Column::stream);
+    }
+
     public void score(int score) {
         this.score = score;
     }
 
+    /**
+     * The Zobrist hash of the board, computed on first use and then maintained incrementally by the updates. Since
+     * moves already on the path are not repeated, the set of moves made is part of the state and of its hash.
+     */
+    @Override
+    public long hash() {
+        if (!hashed) {
+            hash = calcHash();
+            hashed = true;
+        }
+        return hash;
+    }
+
+    protected long calcHash() {
+        return range(0, columns.size())
+                .mapToLong(i -> ZobristHelper.hash(i, column(i)) ^ openAtKey(i, column(i).openAt()))
+                .reduce(0, (a, b) -> a ^ b)
+                ^ path.stream().distinct().mapToLong(ZobristHelper::moveKey).reduce(0, (a, b) -> a ^ b);
+    }
+
+    protected void addToPath(Candidate candidate) {
+        var key = moveKey(candidate);
+
+        if (!moves().contains(key)) {
+            toggleHash(key);
+            moves = moves.add(key);
+        }
+        path.add(candidate.notation());
+        movesAt = path.size();
+    }
+
+    /**
+     * The keys of the moves on the path, carried along with it so that a repeating move is found without walking
+     * the path; rebuilt from the path when the board is created with one, or the path was changed directly.
+     */
+    protected MoveSet moves() {
+        if (isNull(moves) || movesAt != path.size()) {
+            moves = MoveSet.EMPTY;
+            path.forEach(it -> moves = moves.add(moveKey(it)));
+            movesAt = path.size();
+        }
+        return moves;
+    }
+
+    protected void toggleHash(long key) {
+        if (hashed) {
+            hash ^= key;
+        }
+    }
+
+    protected void toggleHash(int pile, int pos, Card[] cards) {
+        if (hashed) {
+            for (int i = 0; i < cards.length; i++) {
+                hash ^= key(pile, pos + i, cards[i]);
+            }
+        }
+    }
+
+    /**
+     * Copy the hash of the given board along with the moves it covers.
+     */
+    protected void copyHash(GameBoard that) {
+        hash = that.hash;
+        hashed = that.hashed;
+        moves = that.moves;
+        movesAt = that.movesAt;
+    }
+
+    public void resetHash() {
+        hashed = false;
+    }
+
     public List<Candidate> add(List<Candidate> collector, Candidate item) {
         collector.add(item);
         return collector;
@@ -256,4 +467,8 @@ public class GameBoard implements Board<String, Candidate> {
         Arrays.fill(orderedCards, null);
         resetScore();
     }
+
+    private record Undo(Candidate candidate, long hash, boolean hashed, MoveSet moves, int score, int totalScore,
+                        int pathSize, int[] openAts, Object state, List<Runnable> reverts) {
+    }
 }
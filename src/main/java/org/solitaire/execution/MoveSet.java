@@ -0,0 +1,91 @@
+package org.solitaire.execution;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A persistent set of 64-bit move keys: a hash trie branching on 4 bits of the key per level, whose nodes are never
+ * changed once built. Adding a key copies only the nodes on its way down, so a board copy shares the moves of the
+ * board it was copied from, and both keep adding their own moves without seeing each other's.
+ */
+public final class MoveSet {
+    public static final MoveSet EMPTY = new MoveSet(new Object[16], 0);
+    private static final int BITS = 4;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Object[] root;
+    private final int size;
+
+    private MoveSet(Object[] root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public boolean contains(long key) {
+        var node = root;
+
+        for (int shift = 0; ; shift += BITS) {
+            var slot = node[index(key, shift)];
+
+            if (isNull(slot)) {
+                return false;
+            } else if (slot instanceof Leaf leaf) {
+                return leaf.key() == key;
+            }
+            node = (Object[]) slot;
+        }
+    }
+
+    public MoveSet add(long key) {
+        var node = add(root, key, 0);
+
+        return node == root ? this : new MoveSet(node, size + 1);
+    }
+
+    private static Object[] add(Object[] node, long key, int shift) {
+        var at = index(key, shift);
+        var slot = node[at];
+        Object added;
+
+        if (isNull(slot)) {
+            added = new Leaf(key);
+        } else if (slot instanceof Leaf leaf) {
+            if (leaf.key() == key) {
+                return node;
+            }
+            added = split(leaf, key, shift + BITS);
+        } else {
+            added = add((Object[]) slot, key, shift + BITS);
+            if (added == slot) {
+                return node;
+            }
+        }
+        var copy = node.clone();
+
+        copy[at] = added;
+        return copy;
+    }
+
+    private static Object[] split(Leaf leaf, long key, int shift) {
+        var node = new Object[MASK + 1];
+        var at = index(key, shift);
+
+        if (at == index(leaf.key(), shift)) {
+            node[at] = split(leaf, key, shift + BITS);
+        } else {
+            node[at] = new Leaf(key);
+            node[index(leaf.key(), shift)] = leaf;
+        }
+        return node;
+    }
+
+    private static int index(long key, int shift) {
+        return (int) (key >>> shift) & MASK;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private record Leaf(long key) {
+    }
+}
@@ -0,0 +1,29 @@
+package org.solitaire.execution;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Reports the metrics of a running solve at a fixed interval on a daemon thread, until it is closed.
+ */
+public class ProgressReporter implements AutoCloseable {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(it -> {
+        var thread = new Thread(it, "solve-progress");
+
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProgressReporter(Supplier<SolveMetrics> metrics, long intervalMillis, Consumer<SolveMetrics> sink) {
+        scheduler.scheduleAtFixedRate(() -> sink.accept(metrics.get()), intervalMillis, intervalMillis, MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,20 +1,37 @@
 package org.solitaire.execution;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.solitaire.model.Board;
 import org.solitaire.model.BoardStack;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
 import org.solitaire.model.GameSolver;
+import org.solitaire.model.SolveResult;
+import org.solitaire.model.SolveResult.Status;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
+import static java.lang.Integer.MIN_VALUE;
 import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.ForkJoinTask.getSurplusQueuedTaskCount;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
@@ -23,27 +40,52 @@ import static org.solitaire.util.BoardHelper.isNotEmpty;
 import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.CardHelper.string;
 
+@Slf4j
 public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
-    private static boolean singleSolution = false;
-    private static int hsdDepth = 6;
-    private static boolean isPrint = false;
+    private static final int MEMORY_CHECK = 1024;
 
     private final Stack<BoardStack<T>> stack = new Stack<>();
-    private final List<Consumer<List<S>>> solutionConsumers = new LinkedList<>();
-    private int totalScenarios = 0;
-    private int totalSolutions = 0;
-    private Integer maxDepth = 0;
+    private final List<Consumer<List<S>>> solutionConsumers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger totalScenarios = new AtomicInteger();
+    private final AtomicInteger totalSolutions = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
     private Function<T, T> cloner;
     private List<S> shortestPath;
     private List<S> longestPath;
+    private TranspositionTable transpositionTable;
+    private ToIntFunction<T> heuristic = it -> -it.score();
+    private ToIntFunction<T> lowerBound;
+    private Predicate<T> deadEnd;
+    private ToIntFunction<T> gameScore;
+    private ToIntFunction<T> scoreEstimate;
+    @SuppressWarnings("rawtypes")
+    private Pair<Integer, List> highScore;
+    private SolverConfig config;
+    private Budget budget = Budget.UNLIMITED;
+    private CancellationToken cancellation = new CancellationToken();
+    private long startTime = System.nanoTime();
+    private volatile Status stopped;
+    private volatile int bestScore = MIN_VALUE;
+    private List<S> bestPath;
+    private volatile IntSupplier frontierSize = this::stackSize;
+    private volatile int currentDepth;
 
     public SolveExecutor(T initialBoard) {
+        this(initialBoard, SolverConfig.DEFAULT);
+    }
+
+    public SolveExecutor(T initialBoard, SolverConfig config) {
         addBoard(initialBoard);
         addSolutionConsumer(this::defaultSolutionConsumer);
+        config(config);
     }
 
     public SolveExecutor(T initialBoard, Function<T, T> cloner) {
-        this(initialBoard);
+        this(initialBoard, cloner, SolverConfig.DEFAULT);
+    }
+
+    public SolveExecutor(T initialBoard, Function<T, T> cloner, SolverConfig config) {
+        this(initialBoard, config);
         cloner(cloner);
     }
 
@@ -52,8 +94,55 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
      *************************************************************************************************************/
     @Override
     public void solve() {
+        solve(Budget.UNLIMITED, new CancellationToken());
+    }
+
+    @Override
+    public SolveResult solve(Budget budget, CancellationToken cancellation) {
+        this.budget = requireNonNull(budget);
+        this.cancellation = requireNonNull(cancellation);
+        startTime = System.nanoTime();
+        stopped = null;
         verifyBoard();
+        var reporter = progressReporter();
+
+        try {
+            search();
+        } finally {
+            Optional.ofNullable(reporter).ifPresent(ProgressReporter::close);
+        }
+        return result();
+    }
 
+    private ProgressReporter progressReporter() {
+        return config.progressInterval() > 0
+                ? new ProgressReporter(this::metrics, config.progressInterval() * 1000L, it -> log.info("{}", it))
+                : null;
+    }
+
+    private void search() {
+        if (highScoring()) {
+            solveForHighScore();
+            return;
+        }
+        if (optimal()) {
+            solveOptimally();
+            return;
+        }
+        if (bestFirst()) {
+            solveByBestFirst();
+            return;
+        }
+        if (parallelism() > 0) {
+            solveInParallel();
+            return;
+        }
+        if (inPlace() && !singleSolution() && board().isUndoable()) {
+            while (isContinuing() && !stack.isEmpty()) {
+                solveInPlace(getBoard());
+            }
+            return;
+        }
         while (isContinuing() && !stack.isEmpty()) {
             checkMaxDepth();
 
@@ -75,8 +164,9 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
     public void solveByHSD(T board) {
         var boards = List.of(board);
 
+        Optional.ofNullable(transpositionTable()).ifPresent(TranspositionTable::clear);
         for (int i = 1; i <= hsdDepth() && isNotEmpty(boards); i++) {
-            boards = boards.stream().flatMap(this::searchBoard).toList();
+            boards = boards.stream().takeWhile(it -> isWithinBudget()).flatMap(this::searchBoard).toList();
         }
         Optional.of(boards)
                 .filter(isNotEmpty)
@@ -84,12 +174,185 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
                 .ifPresent(this::addBoard);
     }
 
+    /**
+     * Best-first (A*) search: all boards share one frontier ordered by g + h, where g is the path length and h the
+     * heuristic, by default the negated board score. The search stops at the first solution found.
+     */
+    public void solveByBestFirst() {
+        var frontier = new Frontier<>(bestFirstLimit(), this::cost);
+
+        while (!stack.isEmpty()) {
+            frontier.add(getBoard());
+        }
+        frontierSize = frontier::size;
+        while (isContinuing() && totalSolutions() == 0 && frontier.isNotEmpty()) {
+            Optional.of(frontier.poll())
+                    .filter(this::isUnsolvedBoard)
+                    .map(this::checkMaxDepth)
+                    .map(this::searchBoard)
+                    .ifPresent(it -> it.toList().forEach(frontier::add));
+        }
+    }
+
+    /**
+     * A* search for a shortest solution: the frontier is ordered by g + h, where h is the game's lower bound of the
+     * moves left, and a board is only taken as solved when it comes off the frontier, when no board left on it can lead
+     * to a shorter solution. The frontier is not bounded, as evicting boards would lose that guarantee; the budget of
+     * the solve bounds the search instead.
+     */
+    public void solveOptimally() {
+        if (isNull(lowerBound())) {
+            throw new RuntimeException("Optimal solving is not supported!");
+        }
+        var frontier = new Frontier<T>(Integer.MAX_VALUE, it -> it.path().size() + lowerBound().applyAsInt(it));
+
+        while (!stack.isEmpty()) {
+            frontier.add(getBoard());
+        }
+        frontierSize = frontier::size;
+        while (isContinuing() && totalSolutions() == 0 && frontier.isNotEmpty()) {
+            var board = checkMaxDepth(frontier.poll());
+
+            if (board.isSolved()) {
+                consumeSolution(board.path());
+            } else {
+                expandAll(board).forEach(frontier::add);
+            }
+        }
+    }
+
+    /**
+     * A heuristic search for a high game score: depth first, the child of the highest estimate first and of the best
+     * board score among equal estimates, keeping the best game score found so far. A board is only expanded while the
+     * game's estimate of the score it can still reach beats that best score. The estimate need not be an upper bound,
+     * so the best score found is not proven the highest, and is kept as the {@link #highScore()}, not the
+     * {@link #maxScore()}. The search goes on past solutions, until the tree is done or the budget runs out.
+     */
+    public void solveForHighScore() {
+        if (isNull(gameScore()) || isNull(scoreEstimate())) {
+            throw new RuntimeException("High score is not supported!");
+        }
+        var boards = new Stack<T>();
+
+        while (!stack.isEmpty()) {
+            boards.push(getBoard());
+        }
+        frontierSize = boards::size;
+        while (isWithinBudget() && !boards.isEmpty()) {
+            var board = checkMaxDepth(boards.pop());
+
+            checkHighScore(board);
+            if (board.isSolved()) {
+                consumeSolution(board.path());
+            } else if (scoreEstimate().applyAsInt(board) > highScore.getLeft()) {
+                expandAll(board).sorted(comparingInt(scoreEstimate()).thenComparingInt(T::score)).forEach(boards::push);
+            }
+        }
+    }
+
+    private void checkHighScore(T board) {
+        var score = gameScore().applyAsInt(board);
+
+        if (isNull(highScore) || score > highScore.getLeft()) {
+            highScore = Pair.of(score, List.copyOf(board.path()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<T> expandAll(T board) {
+        expanded(board);
+        return board.findCandidates().stream()
+                .map(it -> (T) clone(board).updateBoard(it))
+                .filter(isNotNull)
+                .filter(this::isNotDeadEnd)
+                .filter(this::isNotVisited);
+    }
+
+    /**
+     * Parallel depth-first search: the boards on the stack are handed to a ForkJoinPool of the configured
+     * parallelism, where each SearchTask walks its subtree and splits off work for idle workers to steal.
+     */
+    public void solveInParallel() {
+        var pool = new ForkJoinPool(parallelism());
+        var tasks = new LinkedList<SearchTask>();
+
+        while (!stack.isEmpty()) {
+            tasks.add(new SearchTask(getBoard()));
+        }
+        frontierSize = () -> (int) pool.getQueuedTaskCount();
+        try {
+            tasks.forEach(pool::execute);
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Depth-first search on a single board: candidates are applied and undone in place instead of cloning a board per
+     * child. The children are visited in the same order as by solveByDFS, best scored first.
+     */
+    @SuppressWarnings("unchecked")
+    public void solveInPlace(T board) {
+        var expansions = new Stack<Expansion<U>>();
+
+        frontierSize = () -> stackSize() + remaining(expansions);
+        if (isUnsolvedBoard(board)) {
+            expansions.push(new Expansion<>(null, expand(board)));
+        }
+        while (isContinuing() && !expansions.isEmpty()) {
+            var children = expansions.peek().children();
+
+            if (children.hasPrevious()) {
+                var candidate = children.previous();
+
+                checkMaxDepth((T) board.apply(candidate));
+                expansions.push(new Expansion<>(candidate, expand(board)));
+            } else {
+                Optional.ofNullable(expansions.pop().candidate()).ifPresent(board::undo);
+            }
+        }
+        while (!expansions.isEmpty()) {
+            Optional.ofNullable(expansions.pop().candidate()).ifPresent(board::undo);
+        }
+    }
+
+    private ListIterator<U> expand(T board) {
+        expanded(board);
+
+        var candidates = board.findCandidates();
+
+        if (nonNull(transpositionTable())) {
+            board.hash();
+        }
+        var children = candidates.stream()
+                .map(it -> Pair.of(it, score(board, it)))
+                .filter(it -> it.getRight() > MIN_VALUE)
+                .sorted(comparingInt(Pair::getRight))
+                .map(Pair::getLeft)
+                .toList();
+        return children.listIterator(children.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private int score(T board, U candidate) {
+        var child = (T) board.apply(candidate);
+        var score = isUnsolvedBoard(child) && isNotDeadEnd(child) && isNotVisited(child) ? child.score() : MIN_VALUE;
+
+        board.undo(candidate);
+        return score;
+    }
+
+    protected int cost(T board) {
+        return board.path().size() + heuristic().applyAsInt(board);
+    }
+
     private T getBestBoard(List<T> boards) {
         return boards.stream().reduce((a, b) -> b.score() >= a.score() ? b : a).orElseThrow();
     }
 
     private Stream<T> searchBoard(T board) {
-        totalScenarios++;
+        expanded(board);
         return Optional.of(board)
                 .map(T::findCandidates)
                 .filter(isNotEmpty)
@@ -100,23 +363,42 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
 
     @SuppressWarnings("unchecked")
     public Stream<T> applyCandidates(List<U> list, T board) {
-        return list.parallelStream()
+        return (parallelism() > 0 ? list.stream() : list.parallelStream())
                 .map(it -> (T) clone(board).updateBoard(it))
                 .filter(this::isUnsolvedBoard)
                 .filter(isNotNull)
+                .filter(this::isNotDeadEnd)
+                .filter(this::isNotVisited)
                 .peek(Board::score);
     }
 
+    protected boolean isNotDeadEnd(T board) {
+        return isNull(deadEnd()) || !deadEnd().test(board);
+    }
+
+    protected boolean isNotVisited(T board) {
+        return isNull(transpositionTable())
+                || !transpositionTable().isVisited(board.canonicalKey(), board.path().size());
+    }
+
     private boolean isUnsolvedBoard(T board) {
         if (nonNull(board) && board.isSolved() && isContinuing()) {
-            solutionConsumers.forEach(it -> it.accept(board.path()));
+            consumeSolution(board.path());
             return false;
         }
         return true;
     }
 
+    private synchronized void consumeSolution(List<S> path) {
+        if (isContinuing()) {
+            var solution = List.copyOf(path);
+
+            solutionConsumers.forEach(it -> it.accept(solution));
+        }
+    }
+
     protected void defaultSolutionConsumer(List<S> path) {
-        totalSolutions(totalSolutions() + 1);
+        totalSolutions.incrementAndGet();
         if (nonNull(path) && isNotEmpty(path)) {
             checkShortestPath(path);
             checkLongestPath(path);
@@ -143,7 +425,94 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
     }
 
     public boolean isContinuing() {
-        return !singleSolution() || totalSolutions() == 0;
+        return (!singleSolution() || totalSolutions() == 0) && isWithinBudget();
+    }
+
+    /**
+     * Check the budget and the cancellation token; once the solve has stopped on either, it stays stopped. The heap is
+     * only measured every MEMORY_CHECK boards, being the costliest check.
+     */
+    protected boolean isWithinBudget() {
+        if (isNull(stopped)) {
+            var nodes = totalScenarios();
+
+            if (cancellation.isCancelled()) {
+                stopped = Status.CANCELLED;
+            } else if (nodes >= budget.maxNodes()) {
+                stopped = Status.OUT_OF_BUDGET;
+            } else if (System.nanoTime() - startTime > budget.timeLimitNanos()) {
+                stopped = Status.TIMED_OUT;
+            } else if (nodes % MEMORY_CHECK == 0 && usedMemory() > budget.maxMemory()) {
+                stopped = Status.OUT_OF_BUDGET;
+            }
+        }
+        return isNull(stopped);
+    }
+
+    private static long usedMemory() {
+        var runtime = Runtime.getRuntime();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void expanded(T board) {
+        totalScenarios.incrementAndGet();
+        currentDepth = board.path().size();
+        checkBestBoard(board);
+    }
+
+    /**
+     * Keep the path to the best scored board expanded so far, as the partial result of a solve that ends without
+     * a solution.
+     */
+    private void checkBestBoard(T board) {
+        if (totalSolutions() == 0 && board.score() > bestScore) {
+            updateBestBoard(board);
+        }
+    }
+
+    private synchronized void updateBestBoard(T board) {
+        var score = board.score();
+
+        if (score > bestScore) {
+            bestScore = score;
+            bestPath = List.copyOf(board.path());
+        }
+    }
+
+    public SolveResult result() {
+        return new SolveResult(status(), totalSolutions(), totalScenarios(),
+                totalSolutions() > 0 ? shortestPath() : bestPath());
+    }
+
+    /**
+     * A snapshot of the progress of the solve, safe to take from another thread while it runs.
+     */
+    public SolveMetrics metrics() {
+        var table = Optional.ofNullable(transpositionTable());
+
+        return new SolveMetrics(System.nanoTime() - startTime, totalScenarios(), frontierSize.getAsInt(),
+                stack.size(), currentDepth, maxDepth(), table.map(TranspositionTable::probes).orElse(0L),
+                table.map(TranspositionTable::hits).orElse(0L), totalSolutions(), usedMemory());
+    }
+
+    private int stackSize() {
+        synchronized (stack) {
+            return stack.stream().mapToInt(Vector::size).sum();
+        }
+    }
+
+    private static int remaining(Stack<? extends Expansion<?>> expansions) {
+        synchronized (expansions) {
+            return expansions.stream().mapToInt(it -> it.children().previousIndex() + 1).sum();
+        }
+    }
+
+    public Status status() {
+        if (nonNull(stopped)) {
+            return stopped;
+        }
+        return totalSolutions() > 0 ? Status.SOLVED : Status.EXHAUSTED;
     }
 
     private void checkLongestPath(List<S> path) {
@@ -183,16 +552,16 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
      *************************************************************************************************************/
     @Override
     public int totalScenarios() {
-        return this.totalScenarios;
+        return totalScenarios.get();
     }
 
     @Override
     public Integer maxDepth() {
-        return maxDepth;
+        return maxDepth.get();
     }
 
     protected void maxDepth(Integer maxDepth) {
-        this.maxDepth = maxDepth;
+        this.maxDepth.set(maxDepth);
     }
 
     @SuppressWarnings("rawtypes")
@@ -201,6 +570,18 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
         throw new RuntimeException("Maximum score is not supported!");
     }
 
+    /**
+     * The best game score found by the high-score search, with the path to it.
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Pair<Integer, List> highScore() {
+        if (isNull(scoreEstimate())) {
+            throw new RuntimeException("High score is not supported!");
+        }
+        return highScore;
+    }
+
     @SuppressWarnings("rawtypes")
     @Override
     public String pathString(List path) {
@@ -208,9 +589,12 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
     }
 
     protected void checkMaxDepth() {
-        if (stack.size() > maxDepth()) {
-            maxDepth(stack.size());
-        }
+        maxDepth.accumulateAndGet(stack.size(), Math::max);
+    }
+
+    private T checkMaxDepth(T board) {
+        maxDepth.accumulateAndGet(board.path().size(), Math::max);
+        return board;
     }
 
     public T board() {
@@ -233,6 +617,68 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
         return singleSolution() ? this::solveByHSD : this::solveByDFS;
     }
 
+    public TranspositionTable transpositionTable() {
+        return transpositionTable;
+    }
+
+    public void transpositionTable(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+    }
+
+    public ToIntFunction<T> heuristic() {
+        return heuristic;
+    }
+
+    public void heuristic(ToIntFunction<T> heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    public ToIntFunction<T> lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Set the game's admissible estimate of the moves left to solve a board, which the optimal search needs.
+     */
+    public void lowerBound(ToIntFunction<T> lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public Predicate<T> deadEnd() {
+        return deadEnd;
+    }
+
+    /**
+     * Set the game's test of boards that can no longer be solved, which are dropped as they are created instead of
+     * being searched. The test has to be sound: a board it holds for lost must have no solution.
+     */
+    public void deadEnd(Predicate<T> deadEnd) {
+        this.deadEnd = deadEnd;
+    }
+
+    public ToIntFunction<T> gameScore() {
+        return gameScore;
+    }
+
+    /**
+     * Set the game's score of a board, the points earned on the way to it, which the high-score search maximizes.
+     */
+    public void gameScore(ToIntFunction<T> gameScore) {
+        this.gameScore = gameScore;
+    }
+
+    public ToIntFunction<T> scoreEstimate() {
+        return scoreEstimate;
+    }
+
+    /**
+     * Set the game's estimate of the highest score a board can still reach, by which the high-score search orders and
+     * prunes boards.
+     */
+    public void scoreEstimate(ToIntFunction<T> scoreEstimate) {
+        this.scoreEstimate = scoreEstimate;
+    }
+
     public List<Consumer<List<S>>> solutionConsumers() {
         return solutionConsumers;
     }
@@ -245,6 +691,10 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
         return solutionConsumers().remove(consumer);
     }
 
+    public List<S> bestPath() {
+        return bestPath;
+    }
+
     @Override
     public List<S> shortestPath() {
         return shortestPath;
@@ -265,35 +715,110 @@ public class SolveExecutor<S, U, T extends Board<S, U>> implements GameSolver {
 
     @Override
     public int totalSolutions() {
-        return totalSolutions;
+        return totalSolutions.get();
     }
 
     public void totalSolutions(int totalSolutions) {
-        this.totalSolutions = totalSolutions;
+        this.totalSolutions.set(totalSolutions);
     }
 
-    public static boolean singleSolution() {
-        return singleSolution;
+    public SolverConfig config() {
+        return config;
     }
 
-    public static void singleSolution(boolean singleSolution) {
-        SolveExecutor.singleSolution = singleSolution;
+    /**
+     * Set the configuration of this solve, which also decides whether states are deduplicated through a
+     * transposition table.
+     */
+    public void config(SolverConfig config) {
+        this.config = requireNonNull(config);
+        transpositionTable(config.transpositionSize() > 0
+                ? new TranspositionTable(config.transpositionSize(), config.replacement())
+                : null);
     }
 
-    public static int hsdDepth() {
-        return hsdDepth;
+    public boolean singleSolution() {
+        return config.singleSolution();
     }
 
-    public static void hsdDepth(int hsdDepth) {
-        SolveExecutor.hsdDepth = hsdDepth;
+    public int hsdDepth() {
+        return config.hsdDepth();
     }
 
-    public static boolean isPrint() {
-        return isPrint;
+    public boolean isPrint() {
+        return config.isPrint();
     }
 
-    public static void isPrint(boolean isPrint) {
-        SolveExecutor.isPrint = isPrint;
+    public boolean bestFirst() {
+        return config.bestFirst();
     }
 
+    public boolean optimal() {
+        return config.optimal();
+    }
+
+    public boolean highScoring() {
+        return config.highScoring();
+    }
+
+    public int bestFirstLimit() {
+        return config.bestFirstLimit();
+    }
+
+    public int parallelism() {
+        return config.parallelism();
+    }
+
+    public int surplusTasks() {
+        return config.surplusTasks();
+    }
+
+    public boolean inPlace() {
+        return config.inPlace();
+    }
+
+    private record Expansion<U>(U candidate, ListIterator<U> children) {
+    }
+
+    /**
+     * A subtree of the parallel search. The task walks it depth first on a local stack, best scored board first;
+     * while its worker has fewer than surplusTasks queued tasks, all children but the best are forked instead, so
+     * idle workers always have work to steal.
+     */
+    @SuppressWarnings("serial")
+    protected class SearchTask extends RecursiveAction {
+        private final T board;
+
+        protected SearchTask(T board) {
+            this.board = board;
+        }
+
+        @Override
+        protected void compute() {
+            var boards = new Stack<T>();
+            var forks = new LinkedList<SearchTask>();
+
+            boards.push(board);
+            while (isContinuing() && !boards.isEmpty()) {
+                Optional.of(boards.pop())
+                        .filter(SolveExecutor.this::isUnsolvedBoard)
+                        .map(SolveExecutor.this::checkMaxDepth)
+                        .map(SolveExecutor.this::searchBoard)
+                        .map(it -> it.sorted(comparingInt(T::score)).toList())
+                        .filter(isNotEmpty)
+                        .ifPresent(it -> {
+                            if (getSurplusQueuedTaskCount() < surplusTasks()) {
+                                it.subList(0, it.size() - 1).stream()
+                                        .map(SearchTask::new)
+                                        .peek(ForkJoinTask::fork)
+                                        .forEach(forks::add);
+                                boards.push(it.get(it.size() - 1));
+                            } else {
+                                boards.addAll(it);
+                            }
+                        });
+            }
+            forks.forEach(ForkJoinTask::join);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package org.solitaire.execution;
+
+import static java.lang.String.format;
+
+/**
+ * A snapshot of a running solve, taken by SolveExecutor.metrics() from any thread.
+ *
+ * @param elapsedNanos        the time since the solve started
+ * @param totalScenarios      the boards expanded so far
+ * @param frontierSize        the boards waiting to be expanded
+ * @param stackDepth          the board stacks on the DFS stack
+ * @param currentDepth        the path length of the board expanded last
+ * @param maxDepth            the maximum depth reached
+ * @param transpositionProbes the lookups in the transposition table
+ * @param transpositionHits   the lookups that found a duplicate
+ * @param totalSolutions      the solutions found so far
+ * @param heapUsed            the bytes of used heap
+ */
+public record SolveMetrics(long elapsedNanos,
+                           int totalScenarios,
+                           int frontierSize,
+                           int stackDepth,
+                           int currentDepth,
+                           int maxDepth,
+                           long transpositionProbes,
+                           long transpositionHits,
+                           int totalSolutions,
+                           long heapUsed) {
+    private static final double NANOS = 1e9;
+    private static final long MB = 1 << 20;
+
+    public double nodesPerSecond() {
+        return elapsedNanos > 0 ? totalScenarios * NANOS / elapsedNanos : 0;
+    }
+
+    public double hitRate() {
+        return transpositionProbes > 0 ? (double) transpositionHits / transpositionProbes : 0;
+    }
+
+    @Override
+    public String toString() {
+        return format("%.1fs: %,d nodes (%,.0f/s), frontier %,d in %d stacks, depth %d/%d, dedup %.1f%%, "
+                        + "%,d solutions, heap %,dMB",
+                elapsedNanos / NANOS, totalScenarios, nodesPerSecond(), frontierSize, stackDepth, currentDepth,
+                maxDepth, hitRate() * 100, totalSolutions, heapUsed / MB);
+    }
+}
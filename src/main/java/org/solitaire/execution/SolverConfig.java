@@ -0,0 +1,129 @@
+package org.solitaire.execution;
+
+import lombok.Builder;
+import org.solitaire.execution.TranspositionTable.Replacement;
+
+import static java.util.Objects.requireNonNull;
+import static org.solitaire.execution.TranspositionTable.Replacement.SHALLOWER;
+
+/**
+ * The settings of one solve: how the search runs and how the deal is read. A configuration is immutable, and each
+ * setter returns a copy with the one setting changed, so solves configured differently can run side by side in the
+ * same JVM. The setters go through the builder, so a new setting only adds its component and its setter.
+ *
+ * @param singleSolution    stop at the first solution, searching by HSD instead of exhaustive DFS
+ * @param hsdDepth          the depth bound of each HSD stage
+ * @param isPrint           print each solution when it is found
+ * @param drawNumber        the number of cards drawn from the Klondike deck at a time
+ * @param useSuit           show suits as symbols instead of letters
+ * @param transpositionSize the capacity of the transposition table, 0 for none
+ * @param replacement       which state a transposition table slot keeps on collision
+ * @param bestFirst         search by best-first (A*) instead of DFS/HSD
+ * @param bestFirstLimit    the capacity of the best-first frontier
+ * @param parallelism       the number of workers of a parallel DFS, 0 for sequential
+ * @param surplusTasks      the queued tasks a parallel worker keeps for others to steal
+ * @param inPlace           make and unmake moves on one board instead of cloning boards in DFS
+ * @param progressInterval  the seconds between two progress reports to the log, 0 for none
+ * @param autoPlay          send FreeCell cards home as forced moves once they are safe to
+ * @param optimal           search by A* on the game's lower bound of the moves left for a shortest solution
+ * @param highScoring       search for a high game score, pruned by the game's score estimate, instead of for solutions
+ */
+@Builder(toBuilder = true)
+public record SolverConfig(boolean singleSolution,
+                           int hsdDepth,
+                           boolean isPrint,
+                           int drawNumber,
+                           boolean useSuit,
+                           int transpositionSize,
+                           Replacement replacement,
+                           boolean bestFirst,
+                           int bestFirstLimit,
+                           int parallelism,
+                           int surplusTasks,
+                           boolean inPlace,
+                           int progressInterval,
+                           boolean autoPlay,
+                           boolean optimal,
+                           boolean highScoring) {
+    public static final SolverConfig DEFAULT = builder()
+            .hsdDepth(6)
+            .drawNumber(3)
+            .useSuit(true)
+            .replacement(SHALLOWER)
+            .bestFirstLimit(1_000_000)
+            .surplusTasks(3)
+            .autoPlay(true)
+            .build();
+
+    public SolverConfig {
+        requireNonNull(replacement);
+        if (hsdDepth < 1 || drawNumber < 1 || transpositionSize < 0 || bestFirstLimit < 1 || parallelism < 0
+                || surplusTasks < 0 || progressInterval < 0) {
+            throw new RuntimeException("Invalid solver configuration!");
+        }
+    }
+
+    public SolverConfig singleSolution(boolean singleSolution) {
+        return toBuilder().singleSolution(singleSolution).build();
+    }
+
+    public SolverConfig hsdDepth(int hsdDepth) {
+        return toBuilder().hsdDepth(hsdDepth).build();
+    }
+
+    public SolverConfig isPrint(boolean isPrint) {
+        return toBuilder().isPrint(isPrint).build();
+    }
+
+    public SolverConfig drawNumber(int drawNumber) {
+        return toBuilder().drawNumber(drawNumber).build();
+    }
+
+    public SolverConfig useSuit(boolean useSuit) {
+        return toBuilder().useSuit(useSuit).build();
+    }
+
+    public SolverConfig transpositionSize(int transpositionSize) {
+        return toBuilder().transpositionSize(transpositionSize).build();
+    }
+
+    public SolverConfig replacement(Replacement replacement) {
+        return toBuilder().replacement(replacement).build();
+    }
+
+    public SolverConfig bestFirst(boolean bestFirst) {
+        return toBuilder().bestFirst(bestFirst).build();
+    }
+
+    public SolverConfig bestFirstLimit(int bestFirstLimit) {
+        return toBuilder().bestFirstLimit(bestFirstLimit).build();
+    }
+
+    public SolverConfig parallelism(int parallelism) {
+        return toBuilder().parallelism(parallelism).build();
+    }
+
+    public SolverConfig surplusTasks(int surplusTasks) {
+        return toBuilder().surplusTasks(surplusTasks).build();
+    }
+
+    public SolverConfig inPlace(boolean inPlace) {
+        return toBuilder().inPlace(inPlace).build();
+    }
+
+    public SolverConfig progressInterval(int progressInterval) {
+        return toBuilder().progressInterval(progressInterval).build();
+    }
+
+    public SolverConfig autoPlay(boolean autoPlay) {
+        return toBuilder().autoPlay(autoPlay).build();
+    }
+
+    public SolverConfig optimal(boolean optimal) {
+        return toBuilder().optimal(optimal).build();
+    }
+
+    public SolverConfig highScoring(boolean highScoring) {
+        return toBuilder().highScoring(highScoring).build();
+    }
+}
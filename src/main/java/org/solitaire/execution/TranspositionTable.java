@@ -0,0 +1,90 @@
+package org.solitaire.execution;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+
+/**
+ * A bounded, direct-mapped table of board hashes already expanded by the solver, keyed by the Zobrist hash of the
+ * boards. A board is a duplicate when the same state has been seen at the same or a shallower depth; when two states
+ * collide on a slot, the replacement policy decides which one is kept. Slots are guarded by striped locks, so
+ * the table can be shared by the workers of a parallel search.
+ */
+public class TranspositionTable {
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final long[] hashes;
+    private final int[] depths;
+    private final int mask;
+    private final Replacement replacement;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public TranspositionTable(int capacity, Replacement replacement) {
+        var size = highestOneBit(max(capacity, 2));
+
+        this.hashes = new long[size];
+        this.depths = new int[size];
+        this.mask = size - 1;
+        this.replacement = replacement;
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    /**
+     * Record the given state and check whether it was seen before.
+     *
+     * @return true if the state was already reached at the same or a shallower depth
+     */
+    public boolean isVisited(long hash, int depth) {
+        var at = index(hash);
+
+        probes.increment();
+        synchronized (locks[at & (STRIPES - 1)]) {
+            var stored = depths[at] - 1;
+
+            if (stored >= 0 && hashes[at] == hash) {
+                if (stored <= depth) {
+                    hits.increment();
+                    return true;
+                }
+                depths[at] = depth + 1;
+            } else if (stored < 0 || replacement.isReplacing(stored, depth)) {
+                hashes[at] = hash;
+                depths[at] = depth + 1;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(depths, 0);
+    }
+
+    private int index(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public int capacity() {
+        return hashes.length;
+    }
+
+    public long probes() {
+        return probes.sum();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public enum Replacement {
+        ALWAYS,
+        SHALLOWER;
+
+        protected boolean isReplacing(int stored, int depth) {
+            return this == ALWAYS || depth <= stored;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package org.solitaire.freecell;
 
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
@@ -74,11 +73,6 @@ public class CardShuffle {
     protected static final int MAXPOS = 21;
     protected static final int MAXCOL = 8;
 
-    private static int msRandom(AtomicInteger seed) {
-        seed.set(seed.get() * 214013 + 2531011);
-        return (seed.get() >> 16) & 0x7fff;
-    }
-
     private static int[][] cleanUp(int[][] card) {
         for (int i = 0; i < card.length; i++) {
             card[i] = Arrays.copyOf(card[i], i < 4 ? 7 : 6);
@@ -94,7 +88,7 @@ public class CardShuffle {
 
     private static String[] toRow(int[] cards) {
         return stream(cards)
-                .mapToObj(card -> format("%s%s", value(card), suit(card % 4)))
+                .mapToObj(card -> format("%s%s", value(card), suit(card % 4, false)))
                 .toArray(String[]::new);
     }
 
@@ -102,6 +96,22 @@ public class CardShuffle {
         return String.valueOf(VALUES.charAt(at / 4));
     }
 
+    /**
+     * The cards of a deal as card codes (suit * 13 + rank - 1), column by column in the order of a deal file, so a
+     * range of deals can be solved without formatting and parsing card texts.
+     */
+    public static int[] deal(int gameNumber) {
+        var card = getShuffledCards(gameNumber);
+        var codes = new int[NUM_CARDS];
+
+        for (int i = 0, n = 0; i < MAXCOL; i++) {
+            for (int j = 0, size = i < 4 ? 7 : 6; j < size; j++) {
+                codes[n++] = card[i][j] % 4 * 13 + card[i][j] / 4;
+            }
+        }
+        return codes;
+    }
+
     public String[][] genBoard(int gameNumber) {
         return Optional.of(getShuffledCards(gameNumber))
                 .map(CardShuffle::cleanUp)
@@ -109,22 +119,24 @@ public class CardShuffle {
                 .orElseThrow();
     }
 
-    private int[][] getShuffledCards(int gameNumber) {
+    private static int[][] getShuffledCards(int gameNumber) {
         var deck = initDeck();
         var card = new int[MAXCOL][MAXPOS];
-        var wLeft = new AtomicInteger(NUM_CARDS);
-        var seed = new AtomicInteger(gameNumber);
+        var seed = gameNumber;
+
+        for (int i = 0, wLeft = NUM_CARDS; i < NUM_CARDS; i++) {
+            // MS rand(): the seed wraps around at 32 bits, and the result is its bits 16 to 30
+            seed = seed * 214013 + 2531011;
 
-        range(0, NUM_CARDS).forEach(i -> {
-            var j = msRandom(seed) % wLeft.get();
+            var j = ((seed >> 16) & 0x7fff) % wLeft;
 
             card[i % 8][i / 8] = deck[j];
-            deck[j] = deck[wLeft.decrementAndGet()];
-        });
+            deck[j] = deck[--wLeft];
+        }
         return card;
     }
 
-    private int[] initDeck() {
+    private static int[] initDeck() {
         var deck = new int[NUM_CARDS];
 
         range(0, deck.length).forEach(i -> deck[i] = i);
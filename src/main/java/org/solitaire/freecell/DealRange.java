@@ -0,0 +1,176 @@
+package org.solitaire.freecell;
+
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
+import org.solitaire.model.SolveResult;
+import org.solitaire.model.SolveResult.Status;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.stream.IntStream.range;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+
+/**
+ * Solves a range of Microsoft FreeCell deals by game number, generating each deal in memory instead of reading it
+ * from a file. The workers take the next game number from a shared counter, so a few hard deals do not hold back
+ * the others, and the outcome of each deal is kept in arrays indexed by its game number for the summary. A deal that
+ * fails to solve is kept with its error, and the rest of the range goes on.
+ */
+public class DealRange {
+    private final int from;
+    private final int to;
+    private final SolverConfig config;
+    private final Budget budget;
+    private final int workers;
+
+    public DealRange(int from, int to, SolverConfig config, Budget budget, int workers) {
+        if (from < 1 || to < from || workers < 1) {
+            throw new RuntimeException(format("Invalid deal range: %d..%d with %d workers", from, to, workers));
+        }
+        this.from = from;
+        this.to = to;
+        this.config = config;
+        this.budget = budget;
+        this.workers = workers;
+    }
+
+    /**
+     * A range written as 'from..to', or a single game number.
+     */
+    public static DealRange parse(String range, SolverConfig config, Budget budget, int workers) {
+        var bounds = Stream.of(range.split("\\.\\.", -1))
+                .map(it -> it.replace(",", "").replace("_", "").trim())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        if (bounds.length > 2) {
+            throw new RuntimeException("Invalid deal range: " + range);
+        }
+        return new DealRange(bounds[0], bounds[bounds.length - 1], config, budget, workers);
+    }
+
+    public Summary solve() {
+        var size = to - from + 1;
+        var statuses = new Status[size];
+        var scenarios = new long[size];
+        var nanos = new long[size];
+        var errors = new String[size];
+        var next = new AtomicInteger(from);
+        var pool = Executors.newFixedThreadPool(workers);
+        var start = System.nanoTime();
+
+        try {
+            Runnable worker = () -> {
+                for (int game = next.getAndIncrement(); from <= game && game <= to; game = next.getAndIncrement()) {
+                    var dealStart = System.nanoTime();
+
+                    try {
+                        var result = solve(game);
+
+                        statuses[game - from] = result.status();
+                        scenarios[game - from] = result.totalScenarios();
+                    } catch (RuntimeException | AssertionError ex) {
+                        errors[game - from] = String.valueOf(ex);
+                    }
+                    nanos[game - from] = System.nanoTime() - dealStart;
+                }
+            };
+            range(0, workers)
+                    .mapToObj(i -> CompletableFuture.runAsync(worker, pool))
+                    .toList()
+                    .forEach(CompletableFuture::join);
+        } finally {
+            pool.shutdown();
+        }
+        return new Summary(size, count(statuses), failures(errors), Percentiles.of(scenarios),
+                Percentiles.of(Arrays.stream(nanos).map(it -> it / 1_000_000).toArray()),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    protected SolveResult solve(int game) {
+        return FreeCellHelper.build(game, config).solve(budget, new CancellationToken());
+    }
+
+    private static Map<Status, Integer> count(Status[] statuses) {
+        return Arrays.stream(statuses)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(it -> it, it -> 1, Integer::sum, () -> new EnumMap<>(Status.class)));
+    }
+
+    private SortedMap<Integer, String> failures(String[] errors) {
+        return range(0, errors.length)
+                .filter(i -> Objects.nonNull(errors[i]))
+                .boxed()
+                .collect(Collectors.toMap(i -> from + i, i -> errors[i], (a, b) -> a, TreeMap::new));
+    }
+
+    public int from() {
+        return from;
+    }
+
+    public int to() {
+        return to;
+    }
+
+    /**
+     * The outcome of a range: how many deals ended in each status, the error of each deal that failed by its game
+     * number, and the distributions of the scenarios and the milliseconds per deal.
+     */
+    public record Summary(int deals, Map<Status, Integer> statuses, SortedMap<Integer, String> errors,
+                          Percentiles scenarios, Percentiles millis, long wallMillis) {
+        public int solved() {
+            return statuses.getOrDefault(SOLVED, 0);
+        }
+
+        public int failed() {
+            return errors.size();
+        }
+
+        public double solveRate() {
+            return deals > 0 ? (double) solved() / deals : 0;
+        }
+
+        @Override
+        public String toString() {
+            return format("Solved %,d of %,d deals (%.2f%%) in %,dms: %s\nScenarios: %s\nTime(ms): %s%s",
+                    solved(), deals, solveRate() * 100, wallMillis, statuses, scenarios, millis,
+                    errors.isEmpty() ? "" : format("\nFailed %,d: %s", failed(), errors));
+        }
+    }
+
+    /**
+     * Nearest-rank percentiles of a distribution.
+     */
+    public record Percentiles(long p50, long p90, long p99, long max) {
+        public static Percentiles of(long[] values) {
+            if (values.length == 0) {
+                return new Percentiles(0, 0, 0, 0);
+            }
+            var sorted = values.clone();
+
+            Arrays.sort(sorted);
+            return new Percentiles(at(sorted, 0.5), at(sorted, 0.9), at(sorted, 0.99), sorted[sorted.length - 1]);
+        }
+
+        private static long at(long[] sorted, double quantile) {
+            return sorted[Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return format("p50 %,d, p90 %,d, p99 %,d, max %,d", p50, p90, p99, max);
+        }
+    }
+}
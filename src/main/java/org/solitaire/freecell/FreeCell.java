@@ -1,6 +1,7 @@
 package org.solitaire.freecell;
 
 import org.solitaire.execution.SolveExecutor;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Columns;
@@ -18,6 +19,12 @@ public class FreeCell extends SolveExecutor<String, Candidate, FreeCellBoard> {
     public static final int SOLUTION_LIMIT = 1000;
 
     public FreeCell(Columns columns) {
-        super(new FreeCellBoard(columns, new Path<>(), new Card[4], new Card[4]), FreeCellBoard::new);
+        this(columns, SolverConfig.DEFAULT);
+    }
+
+    public FreeCell(Columns columns, SolverConfig config) {
+        super(new FreeCellBoard(columns, new Path<>(), new Card[4], new Card[4]), FreeCellBoard::new, config);
+        board().autoPlay(config.autoPlay());
+        lowerBound(FreeCellBoard::lowerBound);
     }
 }
\ No newline at end of file
@@ -6,9 +6,12 @@ import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
+import org.solitaire.model.Origin;
+import org.solitaire.model.PackedState;
 import org.solitaire.model.Path;
 import org.solitaire.util.BoardHelper;
 import org.solitaire.util.CardHelper;
+import org.solitaire.util.ZobristHelper;
 
 import javax.annotation.Nonnull;
 import java.util.Arrays;
@@ -21,6 +24,7 @@ import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static java.lang.Math.min;
 import static java.util.Arrays.stream;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -37,6 +41,7 @@ import static org.solitaire.util.CardHelper.card;
 import static org.solitaire.util.CardHelper.rank;
 import static org.solitaire.util.CardHelper.suit;
 import static org.solitaire.util.CardHelper.suitCode;
+import static org.solitaire.util.ZobristHelper.key;
 
 public class FreeCellBoard extends GameBoard {
     protected static final Function<FreeCellBoard, List<Candidate>> findCandidates = FreeCellBoard::findCandidates;
@@ -44,6 +49,9 @@ public class FreeCellBoard extends GameBoard {
     protected final Card[] foundations;
     protected transient final IntPredicate isNotFoundationable = i -> !isFoundationable(peek(i));
     private transient final IntPredicate hasMultipleCards = i -> column(i).size() > 1;
+    private boolean autoPlay = true;
+    private transient long[] columnHashes;
+    private transient Move moved;
 
     public FreeCellBoard(Columns columns, Path<String> path, Card[] freeCells, Card[] foundations) {
         super(columns, path);
@@ -54,6 +62,10 @@ public class FreeCellBoard extends GameBoard {
 
     protected FreeCellBoard(@Nonnull FreeCellBoard that) {
         this(new Columns(that.columns), new Path<>(that.path), CardHelper.clone(that.freeCells), CardHelper.clone(that.foundations));
+        copyHash(that);
+        autoPlay(that.autoPlay);
+        columnHashes = isNull(that.columnHashes) ? null : that.columnHashes.clone();
+        moved = that.moved;
     }
 
     /*****************************************************************************************************************
@@ -61,6 +73,11 @@ public class FreeCellBoard extends GameBoard {
      ****************************************************************************************************************/
     @Override
     public List<Candidate> findCandidates() {
+        var safe = autoPlay ? findSafeCandidate() : null;
+
+        if (nonNull(safe)) {
+            return List.of(safe);
+        }
         var candidates = Stream.of(
                         findColumnToFoundationCandidates(),
                         findFreeCellToFoundationCandidates(),
@@ -172,6 +189,39 @@ public class FreeCellBoard extends GameBoard {
         return range(0, freeCells.length).filter(i -> isNull(freeCells[i])).findFirst().orElse(-1);
     }
 
+    /**
+     * Safe autoplay: a card is never needed on the tableau again once both cards of the other color a rank lower are
+     * home, as nothing could be built on it but them, and aces and twos are never needed there. Sending it home is
+     * then as good as any other move, so it is made without branching.
+     */
+    protected Candidate findSafeCandidate() {
+        for (int i = 0; i < columns.size(); i++) {
+            var column = column(i);
+
+            if (column.isNotEmpty() && isSafeToFoundation(column.peek())) {
+                return toFoundationCandidate(column.peek(), COLUMN, i);
+            }
+        }
+        for (int i = 0; i < freeCells.length; i++) {
+            if (nonNull(freeCells[i]) && isSafeToFoundation(freeCells[i])) {
+                return toFoundationCandidate(freeCells[i], FREECELL, i);
+            }
+        }
+        return null;
+    }
+
+    protected boolean isSafeToFoundation(Card card) {
+        return isFoundationable(card) && (card.rank() <= 2 || card.rank() <= oppositeFoundationRank(card) + 1);
+    }
+
+    private int oppositeFoundationRank(Card card) {
+        // suit codes: clubs 0, diamonds 1, hearts 2, spades 3
+        return switch (suitCode(card)) {
+            case 1, 2 -> min(rank(foundations[0]), rank(foundations[3]));
+            default -> min(rank(foundations[1]), rank(foundations[2]));
+        };
+    }
+
     protected boolean isFoundationable(Card card) {
         return card.isAce() || Optional.ofNullable(foundations[suitCode(card)])
                 .filter(isNotNull)
@@ -187,20 +237,45 @@ public class FreeCellBoard extends GameBoard {
         return Optional.of(candidate)
                 .map(this::removeFromOrigin)
                 .map(this::moveToTarget)
+                .map(FreeCellBoard::autoPlay)
                 .orElse(null);
     }
 
+    /**
+     * Send home every card that became safe, as moves of the path, with the cards taken from the columns put back
+     * when the update is undone.
+     */
+    protected FreeCellBoard autoPlay() {
+        if (!autoPlay) {
+            return this;
+        }
+        for (var candidate = findSafeCandidate(); nonNull(candidate); candidate = findSafeCandidate()) {
+            removeFromOrigin(candidate);
+            if (candidate.origin() == COLUMN) {
+                var column = column(candidate.from());
+                var card = candidate.peek();
+
+                onUndo(() -> column.add(card));
+            }
+            moveToTarget(candidate);
+        }
+        return this;
+    }
+
     protected Candidate removeFromOrigin(Candidate candidate) {
         switch (candidate.origin()) {
             case COLUMN -> removeFromColumn(candidate);
-            case FREECELL -> freeCells[candidate.from()] = null;
+            case FREECELL -> {
+                toggleHash(key(ZobristHelper.FREECELL, candidate.from(), freeCells[candidate.from()]));
+                freeCells[candidate.from()] = null;
+            }
             default -> throw new RuntimeException("Invalid candidate origin: " + candidate);
         }
         return candidate;
     }
 
     protected FreeCellBoard moveToTarget(Candidate candidate) {
-        path.add(candidate.notation());
+        addToPath(candidate);
         switch (candidate.target()) {
             case COLUMN -> moveToColumn(candidate);
             case FREECELL -> toFreeCell(candidate.peek());
@@ -211,14 +286,20 @@ public class FreeCellBoard extends GameBoard {
     }
 
     private void toFoundation(Card card) {
-        foundations[suitCode(card)] = card;
+        var suit = suitCode(card);
+
+        toggleHash(key(ZobristHelper.FOUNDATION, suit, foundations[suit]) ^ key(ZobristHelper.FOUNDATION, suit, card));
+        foundations[suit] = card;
     }
 
     private void moveToColumn(Candidate candidate) {
         Optional.of(candidate)
                 .map(Candidate::to)
                 .map(columns::get)
-                .ifPresent(it -> it.addAll(List.of(candidate.cards())));
+                .ifPresent(it -> {
+                    toggleHash(candidate.to(), it.size(), candidate.cards());
+                    it.addAll(List.of(candidate.cards()));
+                });
     }
 
     private void toFreeCell(Card card) {
@@ -226,16 +307,101 @@ public class FreeCellBoard extends GameBoard {
                 .filter(i -> isNull(freeCells[i]))
                 .mapToObj(i -> Pair.of(i, card))
                 .findFirst()
-                .map(it -> freeCells[it.getLeft()] = it.getRight())
+                .map(it -> {
+                    toggleHash(key(ZobristHelper.FREECELL, it.getLeft(), it.getRight()));
+                    return freeCells[it.getLeft()] = it.getRight();
+                })
                 .orElseThrow();
     }
 
+    @Override
+    protected void addToPath(Candidate candidate) {
+        var size = moves().size();
+
+        super.addToPath(candidate);
+        if (moves().size() > size) {
+            moved = new Move(candidate, ZobristHelper.hash(0, candidate.cards()), moved);
+        }
+    }
+
+    @Override
+    protected void toggleHash(int pile, int pos, Card[] cards) {
+        super.toggleHash(pile, pos, cards);
+        if (nonNull(columnHashes)) {
+            columnHashes[pile] ^= columnKey(pos, cards);
+        }
+    }
+
+    private static long columnKey(int pos, Card[] cards) {
+        var key = 0L;
+
+        for (int i = 0; i < cards.length; i++) {
+            key ^= key(0, pos + i, cards[i]);
+        }
+        return key;
+    }
+
+    @Override
+    public void resetHash() {
+        super.resetHash();
+        columnHashes = null;
+    }
+
+    @Override
+    protected Object saveState() {
+        return new State(freeCells.clone(), foundations.clone(),
+                isNull(columnHashes) ? null : columnHashes.clone(), moved);
+    }
+
+    @Override
+    protected void restoreState(Object state) {
+        var saved = (State) state;
+
+        System.arraycopy(saved.freeCells(), 0, freeCells, 0, freeCells.length);
+        System.arraycopy(saved.foundations(), 0, foundations, 0, foundations.length);
+        columnHashes = saved.columnHashes();
+        moved = saved.moved();
+    }
+
+    private record State(Card[] freeCells, Card[] foundations, long[] columnHashes, Move moved) {
+    }
+
     protected int countfreeCells() {
         return (int) stream(freeCells).filter(isNull).count();
     }
 
+    /**
+     * The supermove limit: (free cells + 1) * 2^(empty columns), not counting the target column when it is the empty
+     * one, as each empty column can hold a run moved through the free cells, doubling what can be moved.
+     */
     protected int maxCardsToMove(int to) {
-        return countfreeCells() + countEmptyColumns() + (column(to).isEmpty() ? 0 : 1);
+        return (countfreeCells() + 1) << (countEmptyColumns() - (column(to).isEmpty() ? 1 : 0));
+    }
+
+    /**
+     * An admissible estimate of the moves left, for the optimal search: every card not home takes a move to its
+     * foundation, and a column with a card above a lower card of the same suit takes at least one more move, to get
+     * that card out of the way, as no move takes cards from two columns.
+     */
+    public int lowerBound() {
+        return columns.stream().mapToInt(Column::size).sum()
+                + (int) stream(freeCells).filter(Objects::nonNull).count()
+                + (int) columns.stream().filter(this::hasBlockedCard).count();
+    }
+
+    protected boolean hasBlockedCard(Column column) {
+        var lowest = new int[foundations.length];
+
+        Arrays.fill(lowest, Integer.MAX_VALUE);
+        for (var card : column) {
+            var suit = suitCode(card);
+
+            if (card.rank() > lowest[suit]) {
+                return true;
+            }
+            lowest[suit] = card.rank();
+        }
+        return false;
     }
 
     /*****************************************************************************************************************
@@ -266,7 +432,7 @@ public class FreeCellBoard extends GameBoard {
     private Card nextFoundationCard(int i) {
         return Optional.of(rank(foundations[i]) + 1)
                 .filter(rank -> rank <= 13)
-                .map(rank -> card(VALUES.charAt(rank - 1) + suit(i).toLowerCase()))
+                .map(rank -> card(VALUES.charAt(rank - 1) + suit(i, false).toLowerCase()))
                 .orElse(null);
     }
 
@@ -302,11 +468,117 @@ public class FreeCellBoard extends GameBoard {
                 .allMatch(i -> column.get(i).isHigherWithDifferentColor(column.get(i + 1)));
     }
 
+    @Override
+    protected long calcHash() {
+        return super.calcHash()
+                ^ ZobristHelper.hash(ZobristHelper.FREECELL, freeCells)
+                ^ ZobristHelper.hash(ZobristHelper.FOUNDATION, foundations);
+    }
+
+    /**
+     * The order of the columns and of the free cells does not matter to the game, so the key hashes them as unordered
+     * sets, with the foundations, which are kept by suit. A move already made is not made again, so the children of
+     * a board depend on its moves too; like {@link #hash()}, the key folds them in, with the columns they name
+     * renumbered by the order of their cards, so that the moves of boards with their columns swapped match. The moves
+     * are summed rather than XORed, as two moves to different empty columns get the same key and must not cancel out.
+     */
+    @Override
+    public long canonicalKey() {
+        var hashes = columnHashes();
+        var ranks = columnRanks(hashes);
+        var key = ZobristHelper.unorderedHash(hashes)
+                ^ ZobristHelper.unorderedHash(ZobristHelper.FREECELL, freeCells)
+                ^ ZobristHelper.hash(ZobristHelper.FOUNDATION, foundations);
+        var moves = 0L;
+
+        for (var it = moved; nonNull(it); it = it.previous()) {
+            moves += it.key(ranks);
+        }
+        return key ^ moves;
+    }
+
+    /**
+     * The hash of each column as if it were the first, computed on first use and then kept up by the updates.
+     */
+    private long[] columnHashes() {
+        if (isNull(columnHashes)) {
+            columnHashes = columns.stream().mapToLong(it -> ZobristHelper.hash(0, it)).toArray();
+        }
+        return columnHashes;
+    }
+
+    /**
+     * The rank of each column of cards by its hash, no two of them hashing alike, the cards being all different; the
+     * empty columns all rank last, as a move to one of them is as good as a move to another.
+     */
+    private static int[] columnRanks(long[] hashes) {
+        var ranks = new int[hashes.length];
+
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] == 0) {
+                ranks[i] = hashes.length;
+            } else {
+                for (var hash : hashes) {
+                    ranks[i] += hash != 0 && hash < hashes[i] ? 1 : 0;
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * A move made, newest first, kept with the hash of its cards, so that its key can be taken again with the
+     * columns renumbered.
+     */
+    private record Move(Candidate candidate, long cards, Move previous) {
+        long key(int[] ranks) {
+            return ZobristHelper.moveKey(candidate.origin(), pileAt(candidate.origin(), candidate.from(), ranks),
+                    candidate.target(), pileAt(candidate.target(), candidate.to(), ranks), cards);
+        }
+
+        /**
+         * As in the notation, only the columns are numbered.
+         */
+        private static int pileAt(Origin pile, int at, int[] ranks) {
+            return pile == COLUMN ? ranks[at] : 0;
+        }
+    }
+
+    @Override
+    protected void encodeState(PackedState.Writer writer) {
+        writer.cards(freeCells).cards(foundations);
+    }
+
+    @Override
+    public FreeCellBoard decode(PackedState state) {
+        var reader = state.reader(cardPool());
+        var columns = reader.columns(columns().size());
+        var freeCells = reader.cards(this.freeCells.length);
+
+        var board = new FreeCellBoard(columns, new Path<>(), freeCells, reader.cards(foundations.length));
+
+        board.autoPlay(autoPlay);
+        return board;
+    }
+
+    @Override
+    protected Stream<Card> allCards() {
+        return Stream.of(super.allCards(), Stream.of(freeCells), Stream.of(foundations)).flatMap(it -> it);
+    }
+
     @Override
     public List<String> verify() {
         return verifyBoard(columns());
     }
 
+    public boolean isAutoPlay() {
+        return autoPlay;
+    }
+
+    public void autoPlay(boolean autoPlay) {
+        this.autoPlay = autoPlay;
+    }
+
     protected boolean emptyFoundations() {
         return Stream.of(foundations).anyMatch(Objects::isNull);
     }
@@ -1,10 +1,12 @@
 package org.solitaire.freecell;
 
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.solitaire.util.CardHelper.buildCard;
@@ -17,18 +19,41 @@ public class FreeCellHelper {
     protected static final int COLUMNS = 8;
 
     public static FreeCell build(String[] cards) {
-        return new FreeCell(buildBoard(cards));
+        return build(cards, SolverConfig.DEFAULT);
+    }
+
+    public static FreeCell build(String[] cards, SolverConfig config) {
+        return new FreeCell(buildBoard(cards, config.useSuit()), config);
+    }
+
+    /**
+     * Build the Microsoft FreeCell deal of the game number.
+     */
+    public static FreeCell build(int gameNumber, SolverConfig config) {
+        return new FreeCell(buildBoard(CardShuffle.deal(gameNumber), config.useSuit()), config);
     }
 
     public static Columns buildBoard(String[] cards) {
+        return buildBoard(cards, SolverConfig.DEFAULT.useSuit());
+    }
+
+    public static Columns buildBoard(String[] cards, boolean useSuit) {
         assert cards != null && cards.length == LAST_BOARD : "Invalid source cards: " + Arrays.toString(cards);
 
+        return buildBoard(range(0, cards.length).mapToObj(i -> buildCard(i, cards[i], useSuit)));
+    }
+
+    public static Columns buildBoard(int[] codes, boolean useSuit) {
+        assert codes != null && codes.length == LAST_BOARD : "Invalid source codes: " + Arrays.toString(codes);
+
+        return buildBoard(range(0, codes.length).mapToObj(i -> buildCard(i, codes[i], useSuit)));
+    }
+
+    private static Columns buildBoard(Stream<Card> cards) {
         var columns = new Columns(COLUMNS);
         range(0, COLUMNS).forEach(i -> columns.add(i, new Column()));
 
-        range(0, cards.length)
-                .mapToObj(i -> buildCard(i, cards[i]))
-                .forEach(it -> setCardsToColumns(columns, it));
+        cards.forEach(it -> setCardsToColumns(columns, it));
         return columns;
     }
 
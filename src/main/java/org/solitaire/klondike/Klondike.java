@@ -3,6 +3,7 @@ package org.solitaire.klondike;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.solitaire.execution.SolveExecutor;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Deck;
@@ -16,26 +17,45 @@ import static org.solitaire.model.Board.listIsNotEmpty;
 @Slf4j
 public class Klondike extends SolveExecutor<String, Candidate, KlondikeBoard> {
     protected static final int SOLUTION_LIMIT = 1000;
-    @SuppressWarnings("rawtypes")
-    private Pair<Integer, List> maxScore;
 
     public Klondike(Columns columns,
                     Deck deck,
                     Columns foundations) {
-        super(new KlondikeBoard(columns, new Path<>(), 0, deck, new Deck(), foundations, true),
-                KlondikeBoard::new);
+        this(columns, deck, foundations, SolverConfig.DEFAULT);
+    }
+
+    public Klondike(Columns columns,
+                    Deck deck,
+                    Columns foundations,
+                    SolverConfig config) {
+        this(new KlondikeBoard(columns, new Path<>(), 0, deck, new Deck(), foundations, true), config);
+        board().drawNumber(config.drawNumber());
         Optional.of(board().drawDeck())
                 .filter(listIsNotEmpty)
                 .map(it -> it.get(0))
                 .ifPresent(it -> board().updateBoard(it));
     }
 
+    /**
+     * Solve a game in progress from the given board.
+     */
+    Klondike(KlondikeBoard board, SolverConfig config) {
+        super(board, KlondikeBoard::new, config);
+        deadEnd(KlondikeBoard::isDeadEnd);
+        gameScore(KlondikeBoard::totalScore);
+        scoreEstimate(KlondikeBoard::scoreEstimate);
+    }
+
     @Override
     public boolean isContinuing() {
         return super.isContinuing() && totalSolutions() < SOLUTION_LIMIT;
     }
 
+    /**
+     * No maximum score is proven for Klondike: the high-score search only finds a {@link #highScore()}.
+     */
     @SuppressWarnings("rawtypes")
+    @Override
     public Pair<Integer, List> maxScore() {
         throw new RuntimeException("Not ready yet.");
     }
@@ -1,18 +1,27 @@
 package org.solitaire.klondike;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.solitaire.execution.GameBoard;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Deck;
+import org.solitaire.model.PackedState;
 import org.solitaire.model.Path;
 import org.solitaire.util.BoardHelper;
+import org.solitaire.util.ZobristHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Stack;
+import java.util.function.BiPredicate;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 import static java.lang.Math.max;
@@ -22,17 +31,23 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
 import static org.solitaire.model.Candidate.columnToFoundation;
 import static org.solitaire.model.Candidate.deckToColumn;
 import static org.solitaire.model.Candidate.foundationToColumn;
 import static org.solitaire.model.Origin.COLUMN;
 import static org.solitaire.model.Origin.DECKPILE;
+import static org.solitaire.model.Origin.FOUNDATION;
 import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.BoardHelper.verifyBoard;
+import static org.solitaire.util.CardHelper.buildCard;
+import static org.solitaire.util.CardHelper.cardCode;
 import static org.solitaire.util.CardHelper.nextCard;
 import static org.solitaire.util.CardHelper.suitCode;
 import static org.solitaire.util.CardHelper.toArray;
+import static org.solitaire.util.ZobristHelper.flagKey;
+import static org.solitaire.util.ZobristHelper.key;
 
 /**
  * <a href="http://www.chessandpoker.com/solitaire_strategy.html">Solitaire Strategy Guide</a>
@@ -41,12 +56,17 @@ import static org.solitaire.util.CardHelper.toArray;
  * <a href="https://solitaired.com/turn-3">Turn 3 Solitaire Strategy</a>
  */
 class KlondikeBoard extends GameBoard {
-    private static int drawNumber = 3;
+    private static final int INDEX_BITS = 8;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final long[] LOWER_CARDS = cardMasks((it, card) -> it.isSameSuit(card) && it.rank() < card.rank());
+    private static final long[] PARENT_CARDS = cardMasks((it, card) -> it.isHigherWithDifferentColor(card));
 
     private boolean stateChanged;
+    private int drawNumber = 3;
     private Deck deck;
     private Deck deckPile;
     private Columns foundations;
+    private int[] locations;
 
     KlondikeBoard(Columns columns,
                   Path<String> path,
@@ -72,6 +92,9 @@ class KlondikeBoard extends GameBoard {
                 new Deck(that.deckPile()),
                 new Columns(that.foundations()),
                 that.stateChanged);
+        drawNumber(that.drawNumber);
+        copyHash(that);
+        locations = isNull(that.locations) ? null : that.locations.clone();
     }
 
     /***************************************************************************************************************
@@ -82,7 +105,7 @@ class KlondikeBoard extends GameBoard {
         var candidates = candidatesToFoundationAndColumn();
 
         if (candidates.isEmpty()) {
-            candidates = drawDeck();
+            candidates = findStockCandidates();
             if (candidates.isEmpty()) {
                 candidates = findFoundationToColumnCandidates();
             }
@@ -100,6 +123,17 @@ class KlondikeBoard extends GameBoard {
                 .toList();
     }
 
+    /**
+     * With nothing else to play, the stock cards that drawing brings up, played right away instead of drawing one
+     * node at a time.
+     */
+    protected List<Candidate> findStockCandidates() {
+        var stockCards = findStockCards().stream().filter(it -> it.getRight() > 0).toList();
+
+        return Stream.concat(findStockToFoundationCandidates(stockCards), findStockToColumnCandidates(stockCards))
+                .toList();
+    }
+
     protected List<Candidate> findFoundationToColumnCandidates() {
         return foundations().stream()
                 .filter(BoardHelper.isNotEmpty)
@@ -181,6 +215,59 @@ class KlondikeBoard extends GameBoard {
                 .orElseGet(Stream::empty);
     }
 
+    /**
+     * The stock cards that drawing can bring to the top of the deck pile in the current cycle, each with the fewest
+     * draws it takes: the top of the deck pile as it is, the cards turned up going through the deck, and, when the
+     * deck pile may be recycled, those turned up going through it once more. Each of them is played directly, the
+     * draws being made as part of the move, so the search spends no node on drawing.
+     */
+    protected List<Pair<Card, Integer>> findStockCards() {
+        var cards = new ArrayList<Pair<Card, Integer>>();
+        var draws = 0;
+
+        if (isNotEmpty(deckPile)) {
+            cards.add(Pair.of(deckPile.peek(), draws));
+        }
+        for (int at = deck.size(); at > 0; ) {
+            at = max(0, at - drawNumber);
+            cards.add(Pair.of(deck.get(at), ++draws));
+        }
+        if (stateChanged) {
+            var size = deckPile.size() + deck.size();
+
+            for (int drawn = drawNumber; drawn < size + drawNumber; drawn += drawNumber) {
+                var card = recycledCard(min(drawn, size) - 1);
+
+                draws++;
+                if (cards.stream().noneMatch(it -> it.getLeft() == card)) {
+                    cards.add(Pair.of(card, draws));
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * The card at the given position of the deck pile once the deck is gone through and the pile recycled, counting
+     * from the first card to be drawn again.
+     */
+    private Card recycledCard(int at) {
+        return at < deckPile.size() ? deckPile.get(at) : deck.get(deck.size() - 1 - (at - deckPile.size()));
+    }
+
+    protected Stream<Candidate> findStockToFoundationCandidates(List<Pair<Card, Integer>> stockCards) {
+        return stockCards.stream()
+                .filter(it -> isFoundationCandidate(it.getLeft()))
+                .map(it -> candidate(toArray(it.getLeft()), DECKPILE, it.getRight(), FOUNDATION,
+                        suitCode(it.getLeft())));
+    }
+
+    protected Stream<Candidate> findStockToColumnCandidates(List<Pair<Card, Integer>> stockCards) {
+        return stockCards.stream()
+                .flatMap(it -> deckToColumnCandidates(it.getLeft())
+                        .map(c -> candidate(c.cards(), DECKPILE, it.getRight(), COLUMN, c.to())));
+    }
+
     private Stream<Candidate> deckToColumnCandidates(Card card) {
         return range(0, columns().size())
                 .mapToObj(i -> deckToColumnCandidate(i, card))
@@ -210,8 +297,79 @@ class KlondikeBoard extends GameBoard {
         return foundations.stream().allMatch(it -> it.size() == 13);
     }
 
+    /**
+     * Whether the board is lost for column cards that can never move. A card leaves its column either to its
+     * foundation, after the lower cards of its suit, or onto a parent, one of the two cards a rank higher of the other
+     * color. Cards are stuck together when what each of them needs is buried under one of them: none of them can move
+     * first. Starting from all the cards of the columns up to their first face-up one, which move only as the base of
+     * what is moved and so keep covering what is under them, the cards that are not stuck are dropped until the rest
+     * are, if any are left. Kings, which may go to an empty column, are left out, and cards are held as 52-bit masks,
+     * so each test is a few bit operations.
+     */
+    public boolean isDeadEnd() {
+        var buried = 0L;
+
+        for (var column : columns()) {
+            for (int i = 0; i < column.size() - 1; i++) {
+                buried |= 1L << cardCode(column.get(i));
+            }
+        }
+        var cards = new Card[52];
+        var unders = new long[cards.length];
+        var size = 0;
+
+        for (var column : columns()) {
+            var under = 0L;
+
+            for (int i = 0; i <= min(column.openAt(), column.size() - 1); i++) {
+                var card = column.get(i);
+
+                if (!card.isKing() && (PARENT_CARDS[cardCode(card)] & ~buried) == 0) {
+                    cards[size] = card;
+                    unders[size++] = under;
+                }
+                under |= 1L << cardCode(card);
+            }
+        }
+        for (var dropped = true; dropped && size > 0; ) {
+            var under = 0L;
+
+            for (int i = 0; i < size; i++) {
+                under |= unders[i];
+            }
+            dropped = false;
+            for (int i = size - 1; i >= 0; i--) {
+                if (!isStuck(cards[i], under)) {
+                    cards[i] = cards[--size];
+                    unders[i] = unders[size];
+                    dropped = true;
+                }
+            }
+        }
+        return size > 0;
+    }
+
+    private static boolean isStuck(Card card, long under) {
+        return (LOWER_CARDS[cardCode(card)] & under) != 0 && (PARENT_CARDS[cardCode(card)] & ~under) == 0;
+    }
+
+    /**
+     * By card code, the mask of the cards that relate to it as given.
+     */
+    private static long[] cardMasks(BiPredicate<Card, Card> relation) {
+        var masks = new long[52];
+
+        range(0, 52).forEach(i -> range(0, 52)
+                .filter(j -> relation.test(buildCard(0, j, false), buildCard(0, i, false)))
+                .forEach(j -> masks[i] |= 1L << j));
+        return masks;
+    }
+
     protected boolean helpOpenCard(Card card) {
-        return columns().stream().anyMatch(it -> it.indexOf(card) == it.openAt());
+        var location = locate(card);
+
+        return location >= 0 && pileOf(location) < columns().size()
+                && indexOf(location) == column(pileOf(location)).openAt();
     }
 
     protected List<Candidate> drawDeck() {
@@ -226,23 +384,68 @@ class KlondikeBoard extends GameBoard {
     }
 
     private boolean checkRecycleDeck() {
-        Optional.of(deck())
-                .filter(Deck::isEmpty)
-                .filter(it -> stateChanged())
-                .ifPresent(it -> {
-                    while (isNotEmpty(deckPile())) {
-                        it.push(deckPile().pop());
-                    }
-                    stateChanged(false);
-                });
+        if (canRecycleDeck()) {
+            recycleDeck();
+            onUndo(this::unrecycleDeck);
+        }
         return isNotEmpty(deck());
     }
 
+    private boolean canRecycleDeck() {
+        return deck().isEmpty() && stateChanged();
+    }
+
+    private void recycleDeck() {
+        while (isNotEmpty(deckPile())) {
+            deck().push(deckPile().pop());
+        }
+        stateChanged(false);
+        locateCards(ZobristHelper.DECK, deck(), 0);
+        resetHash();
+    }
+
+    private void unrecycleDeck() {
+        while (isNotEmpty(deck())) {
+            deckPile().push(deck().pop());
+        }
+        locateCards(ZobristHelper.DECKPILE, deckPile(), 0);
+    }
+
+    /**
+     * A copy of the board with its hidden cards dealt again at random: the face-down cards of the columns, the deck,
+     * and the deck pile under its top. Only the face-up cards are taken as known, so the order the hidden cards are
+     * in on this board makes no difference to the deals.
+     */
+    protected KlondikeBoard determinize(Random random) {
+        var board = new KlondikeBoard(this);
+        var hidden = new ArrayList<Card>();
+
+        board.forEachHidden((cards, i) -> hidden.add(cards.get(i)));
+        Collections.shuffle(hidden, random);
+
+        var cards = hidden.iterator();
+
+        board.forEachHidden((it, i) -> it.set(i, cards.next()));
+        board.locations = null;
+        board.resetCache();
+        board.resetHash();
+        return board;
+    }
+
+    private void forEachHidden(ObjIntConsumer<List<Card>> action) {
+        columns().forEach(it -> range(0, max(it.openAt(), 0)).forEach(i -> action.accept(it, i)));
+        range(0, deck.size()).forEach(i -> action.accept(deck, i));
+        range(0, deckPile.size() - 1).forEach(i -> action.accept(deckPile, i));
+    }
+
     /*************************************************************************************************************
      * Update board
      ************************************************************************************************************/
     @Override
     public KlondikeBoard updateBoard(Candidate candidate) {
+        if (candidate.isFromDeck() && candidate.from() > 0) {
+            drawStock(candidate);
+        }
         if (candidate.isNotToDeck()) {
             stateChanged(true);
         }
@@ -250,25 +453,75 @@ class KlondikeBoard extends GameBoard {
                 .moveToTarget(candidate);
     }
 
+    /**
+     * Make the draws of a move from the stock; the move alone goes on the path. Draws and recycles only shift where
+     * the deck ends and the deck pile begins, so undoing the move puts the card back on the deck pile and shifts the
+     * stock back to the deck size before the draws.
+     */
+    private void drawStock(Candidate candidate) {
+        var deckSize = deck().size();
+
+        onUndo(() -> restoreStock(deckSize, candidate.peek()));
+        for (int i = 0; i < candidate.from(); i++) {
+            if (canRecycleDeck()) {
+                recycleDeck();
+            }
+            for (int j = min(drawNumber, deck().size()); j > 0; j--) {
+                var card = deck().peek();
+
+                popCard(ZobristHelper.DECK, deck());
+                pushCard(ZobristHelper.DECKPILE, deckPile(), card);
+            }
+        }
+    }
+
+    private void restoreStock(int deckSize, Card card) {
+        deckPile().push(card);
+
+        var deckAt = min(deck().size(), deckSize);
+        var deckPileAt = min(deckPile().size(), deckPile().size() + deck().size() - deckSize);
+
+        while (deck().size() > deckSize) {
+            deckPile().push(deck().pop());
+        }
+        while (deck().size() < deckSize) {
+            deck().push(deckPile().pop());
+        }
+        locateCards(ZobristHelper.DECK, deck(), deckAt);
+        locateCards(ZobristHelper.DECKPILE, deckPile(), deckPileAt);
+    }
+
     protected KlondikeBoard removeFromSource(Candidate candidate) {
         switch (candidate.origin()) {
             case COLUMN -> removeFromColumn(candidate);
             case DECKPILE -> removeFromDeck(candidate);
-            case FOUNDATION -> foundation(candidate.from()).pop();
+            case FOUNDATION -> popCard(ZobristHelper.FOUNDATION, foundation(candidate.from()));
         }
         return this;
     }
 
     private void removeFromDeck(Candidate candidate) {
         if (candidate.target() == DECKPILE) {
-            Stream.of(candidate.cards()).forEach(it -> deck.pop());
+            Stream.of(candidate.cards()).forEach(it -> popCard(ZobristHelper.DECK, deck));
         } else {
-            deckPile.pop();
+            popCard(ZobristHelper.DECKPILE, deckPile);
         }
     }
 
+    private void popCard(int pile, List<Card> cards) {
+        var at = cards.size() - 1;
+
+        toggleHash(key(pile, at, cards.remove(at)));
+    }
+
+    private void pushCard(int pile, List<Card> cards, Card card) {
+        toggleHash(key(pile, cards.size(), card));
+        cards.add(card);
+        locateCards(pile, cards, cards.size() - 1);
+    }
+
     protected KlondikeBoard moveToTarget(Candidate candidate) {
-        path.add(candidate.notation());
+        addToPath(candidate);
 
         switch (candidate.target()) {
             case COLUMN -> addToTargetColumn(candidate);
@@ -282,12 +535,13 @@ class KlondikeBoard extends GameBoard {
         range(0, candidate.cards().length)
                 .map(i -> candidate.cards().length - i - 1)
                 .mapToObj(i -> candidate.cards()[i])
-                .forEach(deckPile::add);
+                .forEach(it -> pushCard(ZobristHelper.DECKPILE, deckPile, it));
     }
 
     @Override
     protected void addToTargetColumn(Candidate candidate) {
         super.addToTargetColumn(candidate);
+        locateCards(candidate.to(), column(candidate.to()), column(candidate.to()).size() - candidate.cards().length);
         if (isScorable(candidate)) {
             totalScore(totalScore() + 5);
         }
@@ -303,7 +557,7 @@ class KlondikeBoard extends GameBoard {
 
         Optional.of(suitCode(card))
                 .map(foundations::get)
-                .ifPresent(it -> it.add(card));
+                .ifPresent(it -> pushCard(ZobristHelper.FOUNDATION, it, card));
         totalScore(totalScore() + (isFirstCardToFoundation(candidate)
                 ? 15
                 : DECKPILE.equals(candidate.origin())
@@ -320,6 +574,48 @@ class KlondikeBoard extends GameBoard {
         return false;
     }
 
+    @Override
+    protected void revert(Candidate candidate) {
+        switch (candidate.target()) {
+            case FOUNDATION -> foundation(suitCode(candidate.peek())).pop();
+            case DECKPILE -> {
+                deckPile.subList(deckPile.size() - candidate.cards().length, deckPile.size()).clear();
+                deck.addAll(List.of(candidate.cards()));
+                locateCards(ZobristHelper.DECK, deck, deck.size() - candidate.cards().length);
+            }
+        }
+        switch (candidate.origin()) {
+            case DECKPILE -> {
+                if (candidate.isNotToDeck() && candidate.from() <= 0) {
+                    deckPile.push(candidate.peek());
+                    locateCards(ZobristHelper.DECKPILE, deckPile, deckPile.size() - 1);
+                }
+            }
+            case FOUNDATION -> {
+                var foundation = foundation(candidate.from());
+
+                foundation.push(candidate.peek());
+                locateCards(ZobristHelper.FOUNDATION, foundation, foundation.size() - 1);
+            }
+        }
+        super.revert(candidate);
+        if (candidate.isFromColumn()) {
+            var column = column(candidate.from());
+
+            locateCards(candidate.from(), column, column.size() - candidate.cards().length);
+        }
+    }
+
+    @Override
+    protected Object saveState() {
+        return stateChanged;
+    }
+
+    @Override
+    protected void restoreState(Object state) {
+        stateChanged = (Boolean) state;
+    }
+
     /*************************************************************************************************************
      * Score board
      ************************************************************************************************************/
@@ -336,6 +632,27 @@ class KlondikeBoard extends GameBoard {
         return super.score();
     }
 
+    /**
+     * An estimate of the highest total score the board can still reach by progress: its total score with the most
+     * points each card off its foundation can still bring. That is 5 when a stock card is played to a column, 5 for
+     * each face-down card, as the move turning it over, and the points of going home: 15 for an Ace from a column, 10
+     * from the deck pile and 5 otherwise. It is a heuristic, not an upper bound: the 5 points of a column move that
+     * leaves its source column non-empty, and the points of cards taken back out of a foundation, are left out, as
+     * moving the same cards back and forth could earn them again and again. The high-score search so prunes such play
+     * instead of crediting it.
+     */
+    public int scoreEstimate() {
+        var stock = Stream.concat(deck.stream(), deckPile.stream())
+                .mapToInt(it -> it.isAce() ? 20 : 10)
+                .sum();
+        var columns = columns().stream()
+                .flatMap(Column::stream)
+                .mapToInt(it -> it.isAce() ? 15 : 5)
+                .sum();
+
+        return totalScore() + stock + columns + 5 * columns().stream().mapToInt(it -> max(it.openAt(), 0)).sum();
+    }
+
     // The smaller, the better
     protected int calcBlockers() {
         return Optional.of(range(0, foundations.size()).map(this::calcBlockers).sum())
@@ -349,34 +666,88 @@ class KlondikeBoard extends GameBoard {
             return 0;
         }
         var card = nextCard(foundationCard, at);
+        var location = locate(card);
 
-        if (deck.contains(card)) {
-            return calcBlocker(deck, card) / drawNumber;
-        } else if (deckPile.contains(card)) {
-            return calcBlocker(deckPile, card);
+        if (location < 0) {
+            throw new NoSuchElementException("Failed to find next card: " + card);
         }
-        return columns.stream()
-                .filter(listIsNotEmpty)
-                .filter(it -> it.contains(card))
-                .map(it -> calcBlocker(it, card))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Failed to find next card: " + card));
+        var blockers = pile(pileOf(location), card).size() - indexOf(location) - 1;
+
+        return pileOf(location) == ZobristHelper.DECK ? blockers / drawNumber : blockers;
+    }
+
+    /*************************************************************************************************************
+     * Card locations: the pile each card is in, a column, the deck, the deck pile or the foundations, and its index
+     * there, by card code
+     ************************************************************************************************************/
+
+    /**
+     * The location of the card, or -1 when it is not on the board. Locations are kept up to date as cards are moved,
+     * so this is an O(1) lookup; they are built from the piles on first use, and again whenever a card is not where
+     * its location says, as when the piles are changed other than by moves.
+     */
+    protected int locate(Card card) {
+        if (isNull(locations) || !isLocatedAt(card, locations[cardCode(card)])) {
+            locateCards();
+        }
+        return locations[cardCode(card)];
+    }
+
+    private boolean isLocatedAt(Card card, int location) {
+        if (location < 0) {
+            return false;
+        }
+        var cards = pile(pileOf(location), card);
+
+        return indexOf(location) < cards.size() && card.equals(cards.get(indexOf(location)));
+    }
+
+    private void locateCards() {
+        locations = new int[52];
+        Arrays.fill(locations, -1);
+        range(0, columns().size()).forEach(i -> locateCards(i, column(i), 0));
+        locateCards(ZobristHelper.DECK, deck, 0);
+        locateCards(ZobristHelper.DECKPILE, deckPile, 0);
+        foundations.forEach(it -> locateCards(ZobristHelper.FOUNDATION, it, 0));
+    }
+
+    private void locateCards(int pile, List<Card> cards, int from) {
+        if (nonNull(locations)) {
+            range(from, cards.size()).forEach(i -> locations[cardCode(cards.get(i))] = pile << INDEX_BITS | i);
+        }
+    }
+
+    private List<Card> pile(int pile, Card card) {
+        return switch (pile) {
+            case ZobristHelper.DECK -> deck;
+            case ZobristHelper.DECKPILE -> deckPile;
+            case ZobristHelper.FOUNDATION -> foundation(suitCode(card));
+            default -> column(pile);
+        };
+    }
+
+    protected int[] locations() {
+        return locations;
+    }
+
+    private static int pileOf(int location) {
+        return location >> INDEX_BITS;
     }
 
-    private static int calcBlocker(List<Card> cards, Card target) {
-        return cards.size() - cards.lastIndexOf(target) - 1;
+    private static int indexOf(int location) {
+        return location & INDEX_MASK;
     }
 
     /*************************************************************************************************************
      * Accessors/Helpers
      ************************************************************************************************************/
 
-    public static int drawNumber() {
+    public int drawNumber() {
         return drawNumber;
     }
 
-    public static void drawNumber(int drawNumber) {
-        KlondikeBoard.drawNumber = drawNumber;
+    public void drawNumber(int drawNumber) {
+        this.drawNumber = drawNumber;
     }
 
     // The smaller, the better
@@ -389,6 +760,7 @@ class KlondikeBoard extends GameBoard {
     }
 
     protected void stateChanged(boolean stateChanged) {
+        toggleHash(flagKey(0, this.stateChanged) ^ flagKey(0, stateChanged));
         this.stateChanged = stateChanged;
     }
 
@@ -436,6 +808,59 @@ class KlondikeBoard extends GameBoard {
                 .orElse(null);
     }
 
+    @Override
+    protected long calcHash() {
+        return foundations().stream()
+                .mapToLong(it -> ZobristHelper.hash(ZobristHelper.FOUNDATION, it))
+                .reduce(super.calcHash(), (a, b) -> a ^ b)
+                ^ ZobristHelper.hash(ZobristHelper.DECK, deck)
+                ^ ZobristHelper.hash(ZobristHelper.DECKPILE, deckPile)
+                ^ flagKey(0, stateChanged);
+    }
+
+    /***************************************************************************************************************
+     * Packing: a foundation is packed as its top card only, being the run of its suit up to it
+     **************************************************************************************************************/
+    @Override
+    protected void encodeState(PackedState.Writer writer) {
+        writer.cards(deck).cards(deckPile);
+        range(0, foundations.size()).mapToObj(this::foundationCard).forEach(writer::card);
+        writer.put(stateChanged ? 1 : 0);
+    }
+
+    @Override
+    public KlondikeBoard decode(PackedState state) {
+        var reader = state.reader(cardPool());
+        var columns = reader.columns(columns().size());
+        var deck = reader.cards(new Deck());
+        var deckPile = reader.cards(new Deck());
+        var foundations = new Columns(this.foundations.size());
+
+        range(0, this.foundations.size()).mapToObj(i -> decodeFoundation(reader.card())).forEach(foundations::add);
+        var board = new KlondikeBoard(columns, new Path<>(), 0, deck, deckPile, foundations, reader.get() == 1);
+
+        board.drawNumber(drawNumber);
+        return board;
+    }
+
+    private Column decodeFoundation(Card top) {
+        var foundation = new Column();
+
+        if (nonNull(top)) {
+            range(cardCode(top) - top.rank() + 1, cardCode(top) + 1)
+                    .mapToObj(i -> cardPool()[i])
+                    .forEach(foundation::add);
+        }
+        return foundation;
+    }
+
+    @Override
+    protected Stream<Card> allCards() {
+        return Stream.of(super.allCards(), deck.stream(), deckPile.stream(),
+                        foundations.stream().flatMap(Column::stream))
+                .flatMap(it -> it);
+    }
+
     @Override
     public List<String> verify() {
         return verifyBoard(columns, deck, deckPile);
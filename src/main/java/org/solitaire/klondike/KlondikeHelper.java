@@ -1,6 +1,7 @@
 package org.solitaire.klondike;
 
 
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Deck;
@@ -19,10 +20,15 @@ public class KlondikeHelper {
     }
 
     public static Klondike build(String[] cards) {
+        return build(cards, SolverConfig.DEFAULT);
+    }
+
+    public static Klondike build(String[] cards, SolverConfig config) {
         return new Klondike(
-                buildColumns(cards),
-                buildDeck(cards),
-                buildFoundation());
+                buildColumns(cards, config.useSuit()),
+                buildDeck(cards, config.useSuit()),
+                buildFoundation(),
+                config);
     }
 
     private static Columns buildFoundation() {
@@ -31,22 +37,22 @@ public class KlondikeHelper {
                 .collect(Collectors.toCollection(Columns::new));
     }
 
-    private static Deck buildDeck(String[] cards) {
+    private static Deck buildDeck(String[] cards, boolean useSuit) {
         return range(0, LAST_DECK)
-                .mapToObj(i -> buildCard(i, cards[i]))
+                .mapToObj(i -> buildCard(i, cards[i], useSuit))
                 .collect(Collectors.toCollection(Deck::new));
     }
 
-    private static Columns buildColumns(String[] cards) {
+    private static Columns buildColumns(String[] cards, boolean useSuit) {
         return range(0, NUM_COLUMNS)
-                .mapToObj(i -> buildColumnCards(i, cards))
+                .mapToObj(i -> buildColumnCards(i, cards, useSuit))
                 .collect(Collectors.toCollection(Columns::new));
     }
 
-    private static Column buildColumnCards(int col, String[] cards) {
+    private static Column buildColumnCards(int col, String[] cards, boolean useSuit) {
         var colEnd = colEnd(col) - 1;
         var column = rangeClosed(colStart(col), colEnd)
-                .mapToObj(i -> buildCard(i, cards[i]))
+                .mapToObj(i -> buildCard(i, cards[i], useSuit))
                 .collect(Collectors.toCollection(Column::new));
         column.openAt(column.size() - 1);
         return column;
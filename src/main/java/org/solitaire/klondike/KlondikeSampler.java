@@ -0,0 +1,151 @@
+package org.solitaire.klondike;
+
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
+import org.solitaire.model.Candidate;
+import org.solitaire.model.Card;
+import org.solitaire.model.SolveResult.Status;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.stream.IntStream.range;
+import static org.solitaire.model.Origin.DECKPILE;
+import static org.solitaire.model.SolveResult.Status.EXHAUSTED;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+
+/**
+ * Picks the next move of a Klondike game in progress when only its face-up cards are known. It samples deals that
+ * agree with what is known, the hidden cards dealt again at random, and solves each candidate move on each of them;
+ * the move of the highest win rate is the advice. A rate counts only the deals the solve decided, solved or proven
+ * unsolvable; a solve stopped by the budget is counted apart, as a miss would bias the rate against the moves that
+ * are slow to solve. The candidates are the board's own, less the stock plays, which depend on the cards to be drawn,
+ * with drawing from the deck in their place, a move that shows none of the cards it draws.
+ * <p>
+ * The workers take the next sample from a shared counter, so they keep busy until the samples are done or the time
+ * limit of the budget is up; the node limit of the budget bounds each solve.
+ */
+public class KlondikeSampler {
+    private static final Candidate DRAW = new Candidate(new Card[0], DECKPILE, 0, DECKPILE, 0);
+
+    private final KlondikeBoard board;
+    private final SolverConfig config;
+    private final int samples;
+    private final Budget budget;
+    private final int workers;
+    private final long seed;
+
+    public KlondikeSampler(KlondikeBoard board, SolverConfig config, int samples, Budget budget, int workers,
+                           long seed) {
+        if (samples < 1 || workers < 1) {
+            throw new RuntimeException(format("Invalid sampling: %d samples with %d workers", samples, workers));
+        }
+        this.board = board;
+        this.config = config.singleSolution(true);
+        this.samples = samples;
+        this.budget = budget;
+        this.workers = workers;
+        this.seed = seed;
+    }
+
+    public Advice advise() {
+        var moves = candidates();
+        var wins = new AtomicIntegerArray(moves.size());
+        var trials = new AtomicIntegerArray(moves.size());
+        var undecided = new AtomicIntegerArray(moves.size());
+        var next = new AtomicInteger();
+        var startTime = System.nanoTime();
+        var pool = Executors.newFixedThreadPool(workers);
+
+        try {
+            Runnable worker = () -> {
+                for (int sample = next.getAndIncrement(); sample < samples && isWithinTime(startTime);
+                     sample = next.getAndIncrement()) {
+                    var deal = board.determinize(new Random(seed + sample));
+
+                    for (int i = 0; i < moves.size() && isWithinTime(startTime); i++) {
+                        var status = solve(deal, moves.get(i), startTime);
+
+                        if (status == SOLVED) {
+                            wins.incrementAndGet(i);
+                        }
+                        (status == SOLVED || status == EXHAUSTED ? trials : undecided).incrementAndGet(i);
+                    }
+                }
+            };
+            range(0, workers)
+                    .mapToObj(i -> CompletableFuture.runAsync(worker, pool))
+                    .toList()
+                    .forEach(CompletableFuture::join);
+        } finally {
+            pool.shutdown();
+        }
+        var estimates = range(0, moves.size())
+                .mapToObj(i -> new Estimate(moves.get(i), wins.get(i), trials.get(i), undecided.get(i)))
+                .toList();
+
+        return new Advice(estimates.stream().max(Comparator.comparingDouble(Estimate::winRate)).orElse(null),
+                estimates);
+    }
+
+    private List<Candidate> candidates() {
+        var copy = new KlondikeBoard(board);
+
+        return Stream.concat(
+                        board.findCandidates().stream().filter(it -> !it.isFromDeck() || it.from() <= 0),
+                        copy.drawDeck().stream().map(it -> DRAW))
+                .toList();
+    }
+
+    private boolean isWithinTime(long startTime) {
+        return System.nanoTime() - startTime < budget.timeLimitNanos();
+    }
+
+    /**
+     * How the solve of the deal ends after the move, drawing the deal's own cards for a draw from the deck.
+     */
+    private Status solve(KlondikeBoard deal, Candidate move, long startTime) {
+        var board = new KlondikeBoard(deal);
+        var candidate = move == DRAW ? board.drawDeck().get(0) : move;
+        var remaining = Duration.ofNanos(Math.max(0, budget.timeLimitNanos() - (System.nanoTime() - startTime)));
+
+        board.updateBoard(candidate);
+        return board.isSolved()
+                ? SOLVED
+                : new Klondike(board, config).solve(budget.timeLimit(remaining), new CancellationToken()).status();
+    }
+
+    /**
+     * A candidate move with the number of sampled deals it was decided on and solved on, and of those the budget
+     * stopped the solve on before it decided.
+     */
+    public record Estimate(Candidate candidate, int wins, int trials, int undecided) {
+        public double winRate() {
+            return trials > 0 ? (double) wins / trials : 0;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s: %d/%d, %d undecided", candidate.notation(), wins, trials, undecided);
+        }
+    }
+
+    /**
+     * The move to play, the one of the highest estimated win rate, with the estimates of all the candidates; the move
+     * is null when there is no candidate.
+     */
+    public record Advice(Estimate best, List<Estimate> estimates) {
+        public Candidate move() {
+            return best == null ? null : best.candidate();
+        }
+    }
+}
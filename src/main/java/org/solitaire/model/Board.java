@@ -16,7 +16,41 @@ public interface Board<R, U> {
 
     int score();
 
+    long hash();
+
+    /**
+     * The key under which the solver tracks the states it has visited. Games whose states have symmetries override it
+     * to give symmetric states the same key, so that they are pruned as duplicates.
+     */
+    default long canonicalKey() {
+        return hash();
+    }
+
     List<U> findCandidates();
 
     Board<R, U> updateBoard(U candidate);
+
+    default boolean isUndoable() {
+        return false;
+    }
+
+    default Board<R, U> apply(U candidate) {
+        throw new RuntimeException("Undo is not supported!");
+    }
+
+    default Board<R, U> undo(U candidate) {
+        throw new RuntimeException("Undo is not supported!");
+    }
+
+    default PackedState encode() {
+        throw new RuntimeException("Packing is not supported!");
+    }
+
+    /**
+     * Restore a packed state as a new board of the same deal, with an empty path. The cards are taken from this board,
+     * so it has to still hold them, as the initial board does.
+     */
+    default Board<R, U> decode(PackedState state) {
+        throw new RuntimeException("Packing is not supported!");
+    }
 }
@@ -0,0 +1,40 @@
+package org.solitaire.model;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The limits of one solve: the boards it may expand, the wall-clock time it may take and the heap it may use. A
+ * solve stops at whichever limit it reaches first and reports the best result found so far.
+ *
+ * @param maxNodes  the maximum number of boards expanded
+ * @param timeLimit the maximum wall-clock time from the start of the solve
+ * @param maxMemory the maximum bytes of used heap
+ */
+public record Budget(long maxNodes, Duration timeLimit, long maxMemory) {
+    public static final Budget UNLIMITED = new Budget(Long.MAX_VALUE, Duration.ofNanos(Long.MAX_VALUE), Long.MAX_VALUE);
+
+    public Budget {
+        requireNonNull(timeLimit);
+        if (maxNodes < 0 || timeLimit.isNegative() || maxMemory < 0) {
+            throw new RuntimeException("Invalid budget!");
+        }
+    }
+
+    public Budget maxNodes(long maxNodes) {
+        return new Budget(maxNodes, timeLimit, maxMemory);
+    }
+
+    public Budget timeLimit(Duration timeLimit) {
+        return new Budget(maxNodes, timeLimit, maxMemory);
+    }
+
+    public Budget maxMemory(long maxMemory) {
+        return new Budget(maxNodes, timeLimit, maxMemory);
+    }
+
+    public long timeLimitNanos() {
+        return timeLimit.toNanos();
+    }
+}
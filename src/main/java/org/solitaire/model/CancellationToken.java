@@ -0,0 +1,17 @@
+package org.solitaire.model;
+
+/**
+ * Lets another thread stop a running solve. The solver checks the token between board expansions, so it stops
+ * shortly after the cancellation and still reports what it has found.
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
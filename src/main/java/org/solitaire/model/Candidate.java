@@ -7,11 +7,15 @@ import static org.solitaire.model.Origin.COLUMN;
 import static org.solitaire.model.Origin.DECKPILE;
 import static org.solitaire.model.Origin.FOUNDATION;
 import static org.solitaire.model.Origin.FREECELL;
+import static org.solitaire.model.Origin.REMOVE;
 import static org.solitaire.util.CardHelper.stringOfRaws;
 import static org.solitaire.util.CardHelper.suitCode;
 import static org.solitaire.util.CardHelper.toArray;
 
 public record Candidate(Card[] cards, Origin origin, int from, Origin target, int to) {
+    private static final long FNV_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
     public static Candidate candidate(Card[] cards, Origin origin, int from, Origin target, int to) {
         return new Candidate(cards, origin, from, target, to);
     }
@@ -71,22 +75,23 @@ public record Candidate(Card[] cards, Origin origin, int from, Origin target, in
     public String originNotation() {
         return switch (origin) {
             case COLUMN -> Integer.toString(from);
-            case FREECELL -> "f";
-            case DECKPILE -> "^";
-            case BOARD -> "b";
-            case FOUNDATION -> "$";
-            default -> throw new RuntimeException("Invalid Origin: " + this);
+            case REMOVE -> throw new RuntimeException("Invalid Origin: " + this);
+            default -> pileNotation(origin);
         };
     }
 
     private String targetNotation() {
-        return switch (target) {
-            case COLUMN -> Integer.toString(to);
+        return target == COLUMN ? Integer.toString(to) : pileNotation(target);
+    }
+
+    private static String pileNotation(Origin pile) {
+        return switch (pile) {
             case FREECELL -> "f";
             case FOUNDATION -> "$";
             case DECKPILE -> "^";
             case BOARD -> "b";
             case REMOVE -> "r";
+            case COLUMN -> throw new RuntimeException("Invalid pile: " + pile);
         };
     }
 
@@ -94,6 +99,60 @@ public record Candidate(Card[] cards, Origin origin, int from, Origin target, in
         return stringOfRaws(cards);
     }
 
+    /**
+     * A 64-bit FNV-1a hash of the given notation.
+     */
+    public static long notationHash(CharSequence notation) {
+        var hash = FNV_BASIS;
+
+        for (int i = 0; i < notation.length(); i++) {
+            hash = hash(hash, notation.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * The same hash as {@link #notationHash(CharSequence)} of {@link #notation()}, fed from the fields, so telling
+     * moves apart builds no strings.
+     */
+    public long notationHash() {
+        if (origin == REMOVE) {
+            throw new RuntimeException("Invalid Origin: " + this);
+        }
+        var hash = hash(hash(hash(FNV_BASIS, origin, from), target, to), ':');
+
+        if (cards.length == 1) {
+            return hash(hash, cards[0].raw());
+        }
+        hash = hash(hash, '[');
+        for (int i = 0; i < cards.length; i++) {
+            hash = hash(i == 0 ? hash : hash(hash(hash, ','), ' '), cards[i].raw());
+        }
+        return hash(hash, ']');
+    }
+
+    private static long hash(long hash, Origin pile, int at) {
+        return pile == COLUMN ? hash(hash, at) : hash(hash, pileNotation(pile));
+    }
+
+    private static long hash(long hash, int number) {
+        if (number < 0) {
+            return hash(hash(hash, '-'), -number);
+        }
+        return hash(number < 10 ? hash : hash(hash, number / 10), (char) ('0' + number % 10));
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = hash(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, char c) {
+        return (hash ^ c) * FNV_PRIME;
+    }
+
     public Card peek() {
         return cards[0];
     }
@@ -1,44 +1,53 @@
 package org.solitaire.model;
 
-import java.awt.*;
-import java.util.Optional;
-
-import static java.awt.Color.BLACK;
-import static java.awt.Color.RED;
 import static java.lang.Math.abs;
 import static java.lang.String.format;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.solitaire.pyramid.Pyramid.ACE;
-import static org.solitaire.pyramid.Pyramid.KING;
 import static org.solitaire.util.CardHelper.VALUES;
 
-public record Card(int at, String value, String suit, String raw) {
-    private static Color getColor(String suit) {
+/**
+ * A card with its rank, suit and color resolved to ordinals once, when it is built, so that the comparisons of the
+ * move generation are primitive operations.
+ */
+public record Card(int at, String value, String suit, String raw, int rank, int suitCode, int color) {
+    private static final int BLACK = 0;
+    private static final int RED = 1;
+    private static final int NO_COLOR = -1;
+
+    public Card(int at, String value, String suit, String raw) {
+        this(at, value, suit, raw, VALUES.indexOf(value) + 1, getSuitCode(suit), getColor(suit));
+    }
+
+    private static int getSuitCode(String suit) {
+        return switch (suit.toLowerCase()) {
+            case "c" -> 0;
+            case "d" -> 1;
+            case "h" -> 2;
+            default -> 3;
+        };
+    }
+
+    private static int getColor(String suit) {
         return switch (suit.toLowerCase()) {
             case "d", "h", "♦", "♥" -> RED;
             case "c", "s", "♠", "♣" -> BLACK;
-            default -> throw new RuntimeException("Invalid suit: " + suit);
+            default -> NO_COLOR;
         };
     }
 
-    public int rank() {
-        return VALUES.indexOf(value) + 1;
+    public int code() {
+        return suitCode * 13 + rank - 1;
     }
 
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return at * 64 + code();
     }
 
     @Override
     public boolean equals(Object obj) {
-        return Optional.ofNullable(obj)
-                .filter(Card.class::isInstance)
-                .map(Card.class::cast)
-                .map(Card::raw)
-                .map(raw::equalsIgnoreCase)
-                .orElse(false);
+        return this == obj || (obj instanceof Card that && code() == that.code());
     }
 
     @Override
@@ -47,7 +56,7 @@ public record Card(int at, String value, String suit, String raw) {
     }
 
     public boolean isKing() {
-        return KING.equals(value);
+        return rank == 13;
     }
 
     public boolean isNotKing() {
@@ -55,18 +64,14 @@ public record Card(int at, String value, String suit, String raw) {
     }
 
     public boolean isAce() {
-        return ACE.equals(value);
+        return rank == 1;
     }
 
     public boolean isAdjacent(Card card) {
-        return Optional.ofNullable(card)
-                .map(Card::value)
-                .map(this::isAdjacentValue)
-                .orElse(false);
-    }
-
-    private boolean isAdjacentValue(String value) {
-        var diff = abs(VALUES.indexOf(this.value) - VALUES.indexOf(value));
+        if (isNull(card)) {
+            return false;
+        }
+        var diff = abs(rank - card.rank);
 
         return diff == 1 || diff == 12;
     }
@@ -80,7 +85,7 @@ public record Card(int at, String value, String suit, String raw) {
     }
 
     public boolean isHigherRank(Card other) {
-        return isNull(other) ? isAce() : (rank() - other.rank()) == 1;
+        return isNull(other) ? isAce() : (rank - other.rank) == 1;
     }
 
     public boolean isHigherOfSameColor(Card other) {
@@ -92,15 +97,22 @@ public record Card(int at, String value, String suit, String raw) {
     }
 
     private boolean isLowerOrder(Card other) {
-        return VALUES.indexOf(other.value) - VALUES.indexOf(value) == 1;
+        return other.rank - rank == 1;
     }
 
     public boolean isSameSuit(Card other) {
-        return isNull(other) || suit.equals(other.suit);
+        return isNull(other) || suitCode == other.suitCode;
     }
 
     public boolean isSameColor(Card other) {
-        return nonNull(other) && (suit.equals(other.suit) || getColor(suit) == getColor(other.suit));
+        if (isNull(other)) {
+            return false;
+        } else if (color != NO_COLOR && other.color != NO_COLOR) {
+            return color == other.color;
+        } else if (suit.equals(other.suit)) {
+            return true;
+        }
+        throw new RuntimeException("Invalid suit: " + (color == NO_COLOR ? suit : other.suit));
     }
 
     public boolean isDifferentColor(Card other) {
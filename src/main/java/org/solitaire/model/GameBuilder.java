@@ -1,6 +1,11 @@
 package org.solitaire.model;
 
-import java.util.function.Function;
+import org.solitaire.execution.SolverConfig;
 
-public interface GameBuilder extends Function<String[], GameSolver> {
+import java.util.function.BiFunction;
+
+public interface GameBuilder extends BiFunction<String[], SolverConfig, GameSolver> {
+    default GameSolver apply(String[] cards) {
+        return apply(cards, SolverConfig.DEFAULT);
+    }
 }
@@ -8,10 +8,21 @@ import java.util.List;
 public interface GameSolver {
     void solve();
 
+    /**
+     * Solve within the given budget, until the search is done, a limit is reached or the token is cancelled.
+     */
+    SolveResult solve(Budget budget, CancellationToken cancellation);
+
     Integer maxDepth();
 
     Pair<Integer, List> maxScore();
 
+    /**
+     * The best game score the high-score search found, with its path; unlike {@link #maxScore()}, it is not proven
+     * the highest.
+     */
+    Pair<Integer, List> highScore();
+
     int totalScenarios();
 
     int totalSolutions();
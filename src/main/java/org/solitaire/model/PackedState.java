@@ -0,0 +1,215 @@
+package org.solitaire.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A board state packed into bytes: one byte per card, its id within the deal, plus the lengths, openAt's and counters
+ * of the piles. Only what decides the next moves is packed, not the path, so two boards reaching the same position
+ * pack into equal states; equality and hash are computed on the bytes.
+ */
+public final class PackedState {
+    public static final int NONE = 0xFF;
+    private static final int POOL_SIZE = 64;
+
+    private final byte[] bytes;
+    private final int hash;
+
+    public PackedState(byte[] bytes) {
+        this.bytes = bytes;
+        this.hash = Arrays.hashCode(bytes);
+    }
+
+    public static Writer writer(ToIntFunction<Card> id) {
+        return new Writer(id);
+    }
+
+    /**
+     * Index the given cards by their id, the first one kept when a deal has duplicates, so the cards can be restored
+     * from their ids.
+     */
+    public static Card[] pool(Stream<Card> cards, ToIntFunction<Card> id) {
+        var pool = new Card[POOL_SIZE];
+
+        cards.filter(it -> nonNull(it) && isNull(pool[id.applyAsInt(it)]))
+                .forEach(it -> pool[id.applyAsInt(it)] = it);
+        return pool;
+    }
+
+    public Reader reader(Card[] pool) {
+        return new Reader(pool);
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj
+                || (obj instanceof PackedState that && hash == that.hash && Arrays.equals(bytes, that.bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(bytes);
+    }
+
+    public static class Writer {
+        private final ToIntFunction<Card> id;
+        private byte[] buf = new byte[128];
+        private int size = 0;
+
+        private Writer(ToIntFunction<Card> id) {
+            this.id = id;
+        }
+
+        public Writer put(int value) {
+            assert 0 <= value && value <= NONE : "Value out of a byte: " + value;
+
+            if (size == buf.length) {
+                buf = Arrays.copyOf(buf, size * 2);
+            }
+            buf[size++] = (byte) value;
+            return this;
+        }
+
+        public Writer card(Card card) {
+            return put(isNull(card) ? NONE : id.applyAsInt(card));
+        }
+
+        /**
+         * A pile of cards: its length, then the cards bottom up.
+         */
+        public Writer cards(Collection<Card> cards) {
+            put(cards.size());
+            cards.forEach(this::card);
+            return this;
+        }
+
+        /**
+         * A fixed number of slots, an empty one packed as {@link #NONE}.
+         */
+        public Writer cards(Card[] slots) {
+            Stream.of(slots).forEach(this::card);
+            return this;
+        }
+
+        /**
+         * Which slots are still taken, one bit each: the cards themselves are known from their positions in the deal.
+         */
+        public Writer mask(Card[] slots) {
+            for (int i = 0; i < slots.length; i += 8) {
+                var bits = 0;
+
+                for (int j = i; j < Math.min(i + 8, slots.length); j++) {
+                    bits |= nonNull(slots[j]) ? 1 << (j - i) : 0;
+                }
+                put(bits);
+            }
+            return this;
+        }
+
+        public Writer column(Column column) {
+            cards(column);
+            return put(column.openAt() + 1);
+        }
+
+        public Writer columns(List<Column> columns) {
+            columns.forEach(this::column);
+            return this;
+        }
+
+        public PackedState pack() {
+            return new PackedState(Arrays.copyOf(buf, size));
+        }
+    }
+
+    public class Reader {
+        private final Card[] pool;
+        private int at = 0;
+
+        private Reader(Card[] pool) {
+            this.pool = pool;
+        }
+
+        public int get() {
+            return bytes[at++] & NONE;
+        }
+
+        public Card card() {
+            var id = get();
+
+            if (id == NONE) {
+                return null;
+            } else if (isNull(pool[id])) {
+                throw new RuntimeException("Card not found in the deal: " + id);
+            }
+            return pool[id];
+        }
+
+        public <T extends Collection<Card>> T cards(T collector) {
+            for (int i = get(); i > 0; i--) {
+                collector.add(card());
+            }
+            return collector;
+        }
+
+        public Card[] cards(int slots) {
+            var cards = new Card[slots];
+
+            Arrays.setAll(cards, i -> card());
+            return cards;
+        }
+
+        /**
+         * The slots still taken, restored from the pool by their positions, which are the ids of the cards.
+         */
+        public Card[] mask(int slots) {
+            var cards = new Card[slots];
+
+            for (int i = 0; i < slots; i += 8) {
+                var bits = get();
+
+                for (int j = i; j < Math.min(i + 8, slots); j++) {
+                    cards[j] = (bits & 1 << (j - i)) != 0 ? pool[j] : null;
+                }
+            }
+            return cards;
+        }
+
+        public Column column() {
+            var column = cards(new Column());
+
+            return column.openAt(get() - 1);
+        }
+
+        public Columns columns(int count) {
+            var columns = new Columns(count);
+
+            for (int i = 0; i < count; i++) {
+                columns.add(column());
+            }
+            return columns;
+        }
+
+        public boolean isDone() {
+            return at == bytes.length;
+        }
+    }
+}
@@ -1,20 +1,116 @@
 package org.solitaire.model;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The moves made so far, kept as immutable nodes each pointing back to the path before it. A copy shares the whole
+ * prefix with the path it is copied from and costs O(1), while appending to one of them never shows in the other.
+ * The path is appended to and read at its end; walking it from the start materializes its moves first, which is
+ * only done for solutions and printing.
+ */
+public class Path<T> extends AbstractList<T> {
+    private Node<T> last;
+    private int size;
 
-public class Path<T> extends LinkedList<T> {
     public Path() {
         super();
     }
 
     public Path(Path<T> that) {
-        super(that);
+        this.last = that.last;
+        this.size = that.size;
     }
 
     @Override
+    public boolean add(T item) {
+        last = new Node<>(item, last);
+        size++;
+        modCount++;
+        return true;
+    }
+
     public T peek() {
         assert size() > 0;
 
-        return get(size() - 1);
+        return last.item();
+    }
+
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        var item = last.item();
+
+        last = last.parent();
+        size--;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+
+        var node = last;
+
+        for (int i = size - 1; i > index; i--) {
+            node = node.parent();
+        }
+        return node.item();
+    }
+
+    @Override
+    public boolean contains(Object item) {
+        for (var node = last; nonNull(node); node = node.parent()) {
+            if (Objects.equals(node.item(), item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        last = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        var items = new Object[size];
+        var node = last;
+
+        for (int i = size - 1; i >= 0; i--, node = node.parent()) {
+            items[i] = node.item();
+        }
+        return items;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<T> listIterator(int index) {
+        return Collections.unmodifiableList(Arrays.asList((T[]) toArray())).listIterator(index);
+    }
+
+    private record Node<T>(T item, Node<T> parent) {
     }
 }
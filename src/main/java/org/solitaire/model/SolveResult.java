@@ -0,0 +1,22 @@
+package org.solitaire.model;
+
+import java.util.List;
+
+/**
+ * How a solve ended, with the best path it found: the shortest solution when there is one, otherwise the path to
+ * the best scored board reached.
+ */
+@SuppressWarnings("rawtypes")
+public record SolveResult(Status status, int totalSolutions, int totalScenarios, List path) {
+    public boolean isSolved() {
+        return totalSolutions > 0;
+    }
+
+    public enum Status {
+        SOLVED,
+        EXHAUSTED,
+        TIMED_OUT,
+        OUT_OF_BUDGET,
+        CANCELLED
+    }
+}
@@ -2,6 +2,7 @@ package org.solitaire.pyramid;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.solitaire.execution.SolveExecutor;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.util.MaxScore;
@@ -15,7 +16,11 @@ public class Pyramid extends SolveExecutor<Card[], Candidate, PyramidBoard> {
     private MaxScore maxScore;
 
     public Pyramid(PyramidBoard board) {
-        super(board, PyramidBoard::new);
+        this(board, SolverConfig.DEFAULT);
+    }
+
+    public Pyramid(PyramidBoard board, SolverConfig config) {
+        super(board, PyramidBoard::new, config);
         addSolutionConsumer(this::solutionConsumer);
         board.updateBoard(board.drawDeckCard());
     }
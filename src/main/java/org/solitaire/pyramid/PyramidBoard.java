@@ -4,8 +4,10 @@ import org.solitaire.model.Board;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
+import org.solitaire.model.PackedState;
 import org.solitaire.model.Path;
 import org.solitaire.util.CardHelper;
+import org.solitaire.util.ZobristHelper;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +34,10 @@ import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.BoardHelper.verifyBoard;
 import static org.solitaire.util.CardHelper.stringOfRaws;
 import static org.solitaire.util.CardHelper.toArray;
+import static org.solitaire.util.ZobristHelper.DECK;
+import static org.solitaire.util.ZobristHelper.FLAGS;
+import static org.solitaire.util.ZobristHelper.counterKey;
+import static org.solitaire.util.ZobristHelper.key;
 
 public class PyramidBoard implements Board<Card[], Candidate> {
     private final Card[] cards;
@@ -41,6 +47,9 @@ public class PyramidBoard implements Board<Card[], Candidate> {
     private int recycleCount;
     private transient int score;
     private transient List<Candidate> candidates;
+    private transient long hash;
+    private transient boolean hashed;
+    private transient Card[] cardPool;
 
     public PyramidBoard(Card[] cards, Column deck, Column flippedDeck, Path<Card[]> path, int recycleCount) {
         this.cards = cards;
@@ -57,6 +66,8 @@ public class PyramidBoard implements Board<Card[], Candidate> {
                 new Column(that.flippedDeck),
                 new Path<>(that.path),
                 that.recycleCount);
+        hash = that.hash;
+        hashed = that.hashed;
     }
 
     /***************************************************************************************************************
@@ -146,7 +157,7 @@ public class PyramidBoard implements Board<Card[], Candidate> {
         if (deck.isEmpty() && recycleCount() > 1) {
             while (!flippedDeck.isEmpty()) deck.push(flippedDeck.pop());
             recycleCount--;
-            return true;
+            hashed = false;
         }
         return isNotEmpty(deck);
     }
@@ -165,6 +176,7 @@ public class PyramidBoard implements Board<Card[], Candidate> {
         var cards = candidate.cards();
         path.add(cards);
         if (candidate.target() == DECKPILE) {
+            toggleHash(key(ZobristHelper.DECKPILE, flippedDeck.size(), cards[0]));
             flippedDeck.push(cards[0]);
         }
     }
@@ -175,9 +187,12 @@ public class PyramidBoard implements Board<Card[], Candidate> {
 
     private void removeCardFromBoard(Card card) {
         if (isBoardCard(card)) {
+            toggleHash(key(ZobristHelper.BOARD, card.at(), card));
             cards[card.at()] = null;
-        } else if (!surePop(card, deck)) {
-            surePop(card, flippedDeck);
+        } else if (surePop(card, deck)) {
+            toggleHash(key(DECK, deck.size(), card));
+        } else if (surePop(card, flippedDeck)) {
+            toggleHash(key(ZobristHelper.DECKPILE, flippedDeck.size(), card));
         }
     }
 
@@ -213,6 +228,52 @@ public class PyramidBoard implements Board<Card[], Candidate> {
         return score == MIN_VALUE;
     }
 
+    /***************************************************************************************************************
+     * Hashing
+     **************************************************************************************************************/
+    @Override
+    public long hash() {
+        if (!hashed) {
+            hash = ZobristHelper.hash(ZobristHelper.BOARD, cards)
+                    ^ ZobristHelper.hash(DECK, deck)
+                    ^ ZobristHelper.hash(ZobristHelper.DECKPILE, flippedDeck)
+                    ^ counterKey(FLAGS, recycleCount);
+            hashed = true;
+        }
+        return hash;
+    }
+
+    private void toggleHash(long key) {
+        if (hashed) {
+            hash ^= key;
+        }
+    }
+
+    /***************************************************************************************************************
+     * Packing: the cards are packed by their positions in the deal, the board as a mask of the cards left on it
+     **************************************************************************************************************/
+    @Override
+    public PackedState encode() {
+        return PackedState.writer(Card::at).mask(cards).cards(deck).cards(flippedDeck).put(recycleCount).pack();
+    }
+
+    @Override
+    public PyramidBoard decode(PackedState state) {
+        var reader = state.reader(cardPool());
+        var cards = reader.mask(this.cards.length);
+        var deck = reader.cards(new Column());
+        var flippedDeck = reader.cards(new Column());
+
+        return new PyramidBoard(cards, deck, flippedDeck, new Path<>(), reader.get());
+    }
+
+    private Card[] cardPool() {
+        if (isNull(cardPool)) {
+            cardPool = PackedState.pool(Stream.of(allCards()), Card::at);
+        }
+        return cardPool;
+    }
+
     /***************************************************************************************************************
      * Helpers/Accessors
      **************************************************************************************************************/
@@ -247,6 +308,7 @@ public class PyramidBoard implements Board<Card[], Candidate> {
 
     public void recycleCount(int recycleCount) {
         this.recycleCount = recycleCount;
+        hashed = false;
     }
 
     public boolean isSolved() {
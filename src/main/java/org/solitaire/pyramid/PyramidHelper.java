@@ -1,6 +1,7 @@
 package org.solitaire.pyramid;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Path;
@@ -28,10 +29,14 @@ public class PyramidHelper {
     };
 
     public static Pyramid build(String[] cards) {
+        return build(cards, SolverConfig.DEFAULT);
+    }
+
+    public static Pyramid build(String[] cards, SolverConfig config) {
         return Optional.of(cards)
-                .map(CardHelper::toCards)
+                .map(it -> CardHelper.toCards(it, config.useSuit()))
                 .map(buildPyramidBoard)
-                .map(Pyramid::new)
+                .map(it -> new Pyramid(it, config))
                 .orElseThrow();
     }
 
@@ -1,18 +1,32 @@
 package org.solitaire.spider;
 
 import org.solitaire.execution.SolveExecutor;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
+import org.solitaire.model.Card;
 import org.solitaire.model.Columns;
-import org.solitaire.model.Deck;
 import org.solitaire.model.Path;
 
+import java.util.List;
+
 public class Spider extends SolveExecutor<String, Candidate, SpiderBoard> {
     protected static final int SOLUTION_LIMIT = 1000;
 
-    public Spider(Columns columns, Path<String> path, int totalScore, Deck deck) {
-        super(new SpiderBoard(columns, path, totalScore, deck), SpiderBoard::new);
-        singleSolution(true);
-        hsdDepth(6);
+    public Spider(Columns columns, Path<String> path, int totalScore, List<Card> deck) {
+        this(columns, path, totalScore, deck, SolverConfig.DEFAULT);
+    }
+
+    public Spider(Columns columns, Path<String> path, int totalScore, List<Card> deck, SolverConfig config) {
+        super(buildBoard(columns, path, totalScore, deck, config.isPrint()), SpiderBoard::new,
+                config.singleSolution(true).hsdDepth(6));
+    }
+
+    private static SpiderBoard buildBoard(Columns columns, Path<String> path, int totalScore, List<Card> deck,
+                                          boolean isPrint) {
+        var board = new SpiderBoard(columns, path, totalScore, deck);
+
+        board.isPrint(isPrint);
+        return board;
     }
 
     @Override
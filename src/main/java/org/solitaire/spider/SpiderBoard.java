@@ -6,9 +6,10 @@ import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
-import org.solitaire.model.Deck;
+import org.solitaire.model.PackedState;
 import org.solitaire.model.Path;
 import org.solitaire.util.BoardHelper;
+import org.solitaire.util.ZobristHelper;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,11 +18,11 @@ import java.util.stream.Stream;
 
 import static java.lang.Integer.compare;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
-import static org.solitaire.execution.SolveExecutor.isPrint;
 import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
 import static org.solitaire.model.Candidate.columnToFoundation;
@@ -29,25 +30,40 @@ import static org.solitaire.model.Origin.DECKPILE;
 import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.BoardHelper.isSingleSuit;
 import static org.solitaire.util.BoardHelper.verifyBoard;
+import static org.solitaire.util.ZobristHelper.counterKey;
+import static org.solitaire.util.ZobristHelper.key;
 
 @Slf4j
 public class SpiderBoard extends GameBoard {
-    protected Deck deck;
+    protected final List<Card> deck;
+    private int dealt = 0;
     private transient int candLimit = 2;
     private int runs = 0;
     private boolean singleSuit;
+    private boolean isPrint;
 
-    public SpiderBoard(Columns columns, Path<String> path, int totalScore, Deck deck) {
+    public SpiderBoard(Columns columns, Path<String> path, int totalScore, List<Card> deck) {
+        this(columns, path, totalScore, List.copyOf(deck), 0);
+    }
+
+    /**
+     * The stock is kept as the whole sequence it is dealt in, which never changes and is shared by all the boards of
+     * a solve, and the number of rows dealt from it.
+     */
+    private SpiderBoard(Columns columns, Path<String> path, int totalScore, List<Card> deck, int dealt) {
         super(columns, path, totalScore);
         this.deck = deck;
+        this.dealt = dealt;
         isInSequence(Card::isHigherRank);
     }
 
     public SpiderBoard(SpiderBoard that) {
-        this(new Columns(that.columns()), new Path<>(that.path()), that.totalScore(), that.deck());
+        this(new Columns(that.columns()), new Path<>(that.path()), that.totalScore(), that.deck, that.dealt);
         runs(that.runs());
         isInSequence(that.isInSequence());
         singleSuit(that.singleSuit);
+        isPrint(that.isPrint);
+        copyHash(that);
     }
 
     /**************************************************************************************************************
@@ -88,7 +104,7 @@ public class SpiderBoard extends GameBoard {
     }
 
     protected List<Candidate> optimizedCandidates(Stream<Candidate> candidates) {
-        candLimit((isNotEmpty(deck) && emptyColumns() > 0) ? max(candLimit(), emptyColumns()) : 1);
+        candLimit((isNotEmpty(deck()) && emptyColumns() > 0) ? max(candLimit(), emptyColumns()) : 1);
         return candidates
                 .collect(groupingBy(Candidate::originNotation))
                 .values().stream()
@@ -120,7 +136,7 @@ public class SpiderBoard extends GameBoard {
     protected List<Candidate> drawDeck() {
         if (isNotEmpty(deck())) {
             if (noEmptyColumns()) {
-                return Optional.of(deck().subList(0, columns.size()))
+                return Optional.of(deck().subList(0, columns().size()))
                         .map(it -> candidate(it, DECKPILE, 0, DECKPILE, 0))
                         .map(List::of)
                         .orElseThrow();
@@ -149,14 +165,19 @@ public class SpiderBoard extends GameBoard {
     }
 
     private void removeFromDeck(Candidate candidate) {
-        cloneDeck();
-        Stream.of(candidate.cards()).forEach(it -> deck.remove(it));
+        var size = deck().size();
+
+        dealt++;
+        toggleHash(counterKey(ZobristHelper.DECK, size) ^ counterKey(ZobristHelper.DECK, deck().size()));
     }
 
     protected SpiderBoard appendToTarget(Candidate candidate) {
-        path().add(candidate.notation());
+        addToPath(candidate);
         switch (candidate.target()) {
-            case DECKPILE -> range(0, columns().size()).forEach(i -> column(i).add(candidate.cards()[i]));
+            case DECKPILE -> range(0, columns().size()).forEach(i -> {
+                toggleHash(key(i, column(i).size(), candidate.cards()[i]));
+                column(i).add(candidate.cards()[i]);
+            });
             case COLUMN -> {
                 addToTargetColumn(candidate);
                 totalScore(totalScore() - 1);
@@ -177,10 +198,32 @@ public class SpiderBoard extends GameBoard {
                 .mapToObj(this::getRunCandidate)
                 .filter(isNotNull)
                 .findFirst()
-                .ifPresent(it -> removeFromSource(it).appendToTarget(it));
+                .ifPresent(it -> {
+                    removeFromSource(it).appendToTarget(it);
+                    onUndo(() -> column(colAt).addAll(List.of(it.cards())));
+                });
         return this;
     }
 
+    @Override
+    protected void revert(Candidate candidate) {
+        if (candidate.target() == DECKPILE) {
+            columns().forEach(Column::pop);
+        }
+        super.revert(candidate);
+    }
+
+    @Override
+    protected Object saveState() {
+        return new State(dealt, runs);
+    }
+
+    @Override
+    protected void restoreState(Object state) {
+        dealt = ((State) state).dealt();
+        runs = ((State) state).runs();
+    }
+
     protected Candidate getRunCandidate(int colAt) {
         return Optional.of(colAt)
                 .map(this::column)
@@ -232,6 +275,42 @@ public class SpiderBoard extends GameBoard {
         return verifyBoard(columns(), deck());
     }
 
+    @Override
+    protected long calcHash() {
+        return super.calcHash() ^ counterKey(ZobristHelper.DECK, deck().size());
+    }
+
+    /**
+     * The deck is dealt in order, so what is left of it is packed as its size.
+     */
+    @Override
+    protected void encodeState(PackedState.Writer writer) {
+        writer.put(deck().size()).put(runs);
+    }
+
+    @Override
+    public SpiderBoard decode(PackedState state) {
+        var reader = state.reader(cardPool());
+        var columns = reader.columns(columns().size());
+        var size = reader.get();
+
+        if (size > deck.size() || (deck.size() - size) % columns.size() != 0) {
+            throw new RuntimeException("Can't restore a deck of " + size + " cards from " + deck.size());
+        }
+        var board = new SpiderBoard(columns, new Path<>(), 0, deck, (deck.size() - size) / columns.size());
+
+        board.runs(reader.get());
+        board.isInSequence(isInSequence());
+        board.singleSuit(singleSuit);
+        board.isPrint(isPrint);
+        return board;
+    }
+
+    @Override
+    protected Stream<Card> allCards() {
+        return Stream.concat(super.allCards(), deck().stream());
+    }
+
     protected boolean noEmptyColumns() {
         return emptyColumns() == 0;
     }
@@ -240,20 +319,27 @@ public class SpiderBoard extends GameBoard {
         return (int) columns().stream().filter(Column::isEmpty).count();
     }
 
-    private void cloneDeck() {
-        deck = new Deck(deck);
-    }
-
     @Override
     public boolean isSolved() {
-        return super.isSolved() && deck.isEmpty();
+        return super.isSolved() && deck().isEmpty();
     }
 
     /***********************************************************************************************************
      * Accessors
      **********************************************************************************************************/
-    public Deck deck() {
-        return deck;
+    /**
+     * The cards of the stock not dealt yet, in the order they are dealt.
+     */
+    public List<Card> deck() {
+        return deck.subList(min(dealt * columns().size(), deck.size()), deck.size());
+    }
+
+    public int dealt() {
+        return dealt;
+    }
+
+    protected void dealt(int dealt) {
+        this.dealt = dealt;
     }
 
     public int runs() {
@@ -272,6 +358,14 @@ public class SpiderBoard extends GameBoard {
         this.singleSuit = singleSuit;
     }
 
+    public boolean isPrint() {
+        return isPrint;
+    }
+
+    public void isPrint(boolean isPrint) {
+        this.isPrint = isPrint;
+    }
+
     protected void candLimit(int candLimit) {
         this.candLimit = candLimit;
     }
@@ -280,4 +374,6 @@ public class SpiderBoard extends GameBoard {
         return candLimit;
     }
 
+    private record State(int dealt, int runs) {
+    }
 }
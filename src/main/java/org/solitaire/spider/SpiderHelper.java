@@ -1,5 +1,6 @@
 package org.solitaire.spider;
 
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Deck;
@@ -22,19 +23,24 @@ public class SpiderHelper {
     private static final int LONG_RANGE_EXCLUSIVE = LAST_LONG + 5;
 
     public static Spider build(String[] cards) {
+        return build(cards, SolverConfig.DEFAULT);
+    }
+
+    public static Spider build(String[] cards, SolverConfig config) {
         assert nonNull(cards) && cards.length == LAST_BOARD + LAST_DECK;
 
-        return new Spider(buildColumns(cards), new Path<>(), 500, buildDeck(cards));
+        return new Spider(buildColumns(cards, config.useSuit()), new Path<>(), 500,
+                buildDeck(cards, config.useSuit()), config);
     }
 
-    protected static Columns buildColumns(String[] cards) {
+    protected static Columns buildColumns(String[] cards, boolean useSuit) {
         var columns = new Columns(LAST_COLUMN);
 
         for (int i = 0; i < LAST_BOARD; i++) {
             var columnAt = calcColumn(i);
             var column = getColumn(columns, columnAt);
 
-            column.add(buildCard(i, cards[i]));
+            column.add(buildCard(i, cards[i], useSuit));
             column.openAt(column.size() - 1);
         }
         return columns;
@@ -49,9 +55,9 @@ public class SpiderHelper {
         return board.get(columnAt);
     }
 
-    protected static Deck buildDeck(String[] cards) {
+    protected static Deck buildDeck(String[] cards, boolean useSuit) {
         return range(LAST_BOARD, LAST_BOARD + LAST_DECK)
-                .mapToObj(i -> buildCard(i, cards[i]))
+                .mapToObj(i -> buildCard(i, cards[i], useSuit))
                 .collect(Collectors.toCollection(Deck::new));
     }
 
@@ -2,6 +2,7 @@ package org.solitaire.tripeaks;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.solitaire.execution.SolveExecutor;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.util.MaxScore;
@@ -19,7 +20,11 @@ public class TriPeaks extends SolveExecutor<Card, Card, TriPeaksBoard> {
     private final MaxScore maxScore = new MaxScore(this::getScore);
 
     public TriPeaks(Card[] cards, Column wastePile) {
-        super(new TriPeaksBoard(cards, wastePile), TriPeaksBoard::new);
+        this(cards, wastePile, SolverConfig.DEFAULT);
+    }
+
+    public TriPeaks(Card[] cards, Column wastePile, SolverConfig config) {
+        super(new TriPeaksBoard(cards, wastePile), TriPeaksBoard::new, config);
         addSolutionConsumer(this::solutionConsumer);
     }
 
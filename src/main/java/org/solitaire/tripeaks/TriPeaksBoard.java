@@ -3,7 +3,9 @@ package org.solitaire.tripeaks;
 import org.solitaire.model.Board;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
+import org.solitaire.model.PackedState;
 import org.solitaire.util.CardHelper;
+import org.solitaire.util.ZobristHelper;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +29,9 @@ import static org.solitaire.tripeaks.TriPeaksHelper.LAST_DECK;
 import static org.solitaire.tripeaks.TriPeaksHelper.calcCoveredAt;
 import static org.solitaire.util.BoardHelper.isNotNull;
 import static org.solitaire.util.BoardHelper.verifyBoard;
+import static org.solitaire.util.ZobristHelper.BOARD;
+import static org.solitaire.util.ZobristHelper.DECKPILE;
+import static org.solitaire.util.ZobristHelper.key;
 
 public class TriPeaksBoard implements Board<Card, Card> {
     private static final int C = LAST_BOARD + LAST_DECK - 1;
@@ -36,6 +41,9 @@ public class TriPeaksBoard implements Board<Card, Card> {
     private Card[] cards;
     private Column wastePile;
     private transient int score = MIN_VALUE;
+    private transient long hash;
+    private transient boolean hashed;
+    private transient Card[] cardPool;
 
     public TriPeaksBoard(Card[] cards, Column wastePile) {
         cards(cards);
@@ -44,6 +52,8 @@ public class TriPeaksBoard implements Board<Card, Card> {
 
     protected TriPeaksBoard(TriPeaksBoard that) {
         this(CardHelper.clone(that.cards), new Column(that.wastePile));
+        hash = that.hash;
+        hashed = that.hashed;
     }
 
     @Override
@@ -103,6 +113,9 @@ public class TriPeaksBoard implements Board<Card, Card> {
     @Override
     public TriPeaksBoard updateBoard(Card card) {
         if (nonNull(card)) {
+            if (hashed) {
+                hash ^= key(BOARD, card.at(), card) ^ key(DECKPILE, 0, wastePile.peek()) ^ key(DECKPILE, 0, card);
+            }
             cards[card.at()] = null;
             wastePile.push(card);
             return this;
@@ -220,6 +233,43 @@ public class TriPeaksBoard implements Board<Card, Card> {
         return isNull(cards[at]) && isNull(cards[at + 1]);
     }
 
+    /***************************************************************************************************************
+     * Hash: the cards left plus the top of the waste pile, which is all that decides the next moves
+     **************************************************************************************************************/
+    @Override
+    public long hash() {
+        if (!hashed) {
+            hash = ZobristHelper.hash(BOARD, cards) ^ key(DECKPILE, 0, wastePile.peek());
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /***************************************************************************************************************
+     * Packing: as the hash, the cards left by their positions in the deal plus the top of the waste pile
+     **************************************************************************************************************/
+    @Override
+    public PackedState encode() {
+        return PackedState.writer(Card::at).mask(cards).card(wastePile.isEmpty() ? null : wastePile.peek()).pack();
+    }
+
+    @Override
+    public TriPeaksBoard decode(PackedState state) {
+        var reader = state.reader(cardPool());
+        var cards = reader.mask(this.cards.length);
+        var wastePile = new Column();
+
+        Optional.ofNullable(reader.card()).ifPresent(wastePile::push);
+        return new TriPeaksBoard(cards, wastePile);
+    }
+
+    private Card[] cardPool() {
+        if (isNull(cardPool)) {
+            cardPool = PackedState.pool(Stream.of(allCards()), Card::at);
+        }
+        return cardPool;
+    }
+
     /***************************************************************************************************************
      * Accessor/Helper's
      **************************************************************************************************************/
@@ -229,6 +279,7 @@ public class TriPeaksBoard implements Board<Card, Card> {
 
     public void cards(Card[] cards) {
         this.cards = cards;
+        hashed = false;
     }
 
     public Column wastePile() {
@@ -237,6 +288,7 @@ public class TriPeaksBoard implements Board<Card, Card> {
 
     public void wastePile(Column wastePile) {
         this.wastePile = wastePile;
+        hashed = false;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.solitaire.tripeaks;
 
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 
@@ -19,22 +20,27 @@ public class TriPeaksHelper {
     public static final int LAST_DECK = 51;
 
     public static TriPeaks build(String[] cards) {
+        return build(cards, SolverConfig.DEFAULT);
+    }
+
+    public static TriPeaks build(String[] cards, SolverConfig config) {
         assert nonNull(cards) && cards.length == 52 : "Invalid number of cards: " + cards.length;
 
         checkDuplicates(cards);
-        return new TriPeaks(toCards(cards), toWastePile(cards));
+        return new TriPeaks(toCards(cards, config.useSuit()), toWastePile(cards, config.useSuit()), config);
     }
 
-    protected static Column toWastePile(String[] cards) {
+    protected static Column toWastePile(String[] cards, boolean useSuit) {
         assert 0 < cards.length && cards.length <= 52;
 
-        return Stream.of(buildCard(51, cards[cards.length - 1])).collect(Collectors.toCollection(Column::new));
+        return Stream.of(buildCard(51, cards[cards.length - 1], useSuit))
+                .collect(Collectors.toCollection(Column::new));
     }
 
-    protected static Card[] toCards(String[] cards) {
+    protected static Card[] toCards(String[] cards, boolean useSuit) {
         requireNonNull(cards);
         return range(0, min(cards.length, LAST_DECK))
-                .mapToObj(i -> buildCard(i, cards[i]))
+                .mapToObj(i -> buildCard(i, cards[i], useSuit))
                 .toArray(Card[]::new);
     }
 
@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 import static java.util.stream.IntStream.range;
 import static java.util.stream.Stream.concat;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
 import static org.solitaire.util.BoardErrors.Extra;
 import static org.solitaire.util.BoardErrors.Missing;
 import static org.solitaire.util.CardHelper.VALUES;
@@ -55,12 +56,24 @@ public class BoardHelper {
                 .orElseThrow();
     }
 
+    /**
+     * The extra and missing cards of a deal, shown in the suit style of its cards.
+     */
     public static List<String> verifyBoard(Card[] cards) {
         var maps = mapCards(cards);
         var numberOfEachCards = numberOfEachCard(maps);
+        var useSuit = useSuit(cards);
 
-        return Stream.concat(check(maps, it -> it > numberOfEachCards, Extra),
-                check(maps, it -> it < numberOfEachCards, Missing)).toList();
+        return Stream.concat(check(maps, it -> it > numberOfEachCards, Extra, useSuit),
+                check(maps, it -> it < numberOfEachCards, Missing, useSuit)).toList();
+    }
+
+    private static boolean useSuit(Card[] cards) {
+        return Stream.of(cards)
+                .filter(isNotNull)
+                .findFirst()
+                .map(it -> !it.raw().endsWith(it.suit()))
+                .orElse(DEFAULT.useSuit());
     }
 
     protected static int numberOfEachCard(int[][] maps) {
@@ -88,17 +101,18 @@ public class BoardHelper {
         return maps;
     }
 
-    protected static Stream<String> check(int[][] maps, IntPredicate test, BoardErrors type) {
+    protected static Stream<String> check(int[][] maps, IntPredicate test, BoardErrors type, boolean useSuit) {
         return range(0, maps.length)
                 .filter(i -> maps[i][0] > 0)
-                .mapToObj(i -> checkCard(test, type, maps, i))
+                .mapToObj(i -> checkCard(test, type, maps, i, useSuit))
                 .flatMap(it -> it);
     }
 
-    private static Stream<String> checkCard(IntPredicate test, BoardErrors type, int[][] maps, int i) {
+    private static Stream<String> checkCard(IntPredicate test, BoardErrors type, int[][] maps, int i,
+                                            boolean useSuit) {
         return range(1, maps[i].length)
                 .filter(j -> test.test(maps[i][j]))
-                .mapToObj(j -> format("%s card: %s%s", type, VALUES.charAt(j - 1), suit(i).toLowerCase()));
+                .mapToObj(j -> format("%s card: %s%s", type, VALUES.charAt(j - 1), suit(i, useSuit).toLowerCase()));
     }
 
     private static Stream<Card> toStream(List<Column> lists) {
@@ -15,6 +15,7 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.IntStream.range;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
 import static org.solitaire.util.BoardHelper.isNull;
 
 public class CardHelper {
@@ -29,20 +30,12 @@ public class CardHelper {
         put("c", CLUB);
         put("h", HEART);
     }};
-    private static boolean useSuit = true;
-
-    public static void useSuit(boolean useSuit) {
-        CardHelper.useSuit = useSuit;
-    }
-
-    public static boolean useSuit() {
-        return useSuit;
-    }
+    private static final String SUIT_LETTERS = "cdhs";
+    private static final int MAX_AT = 104;
+    private static final Card[][] CARDS = new Card[2][MAX_AT * 52];
 
     public static int rank(Card card) {
-        return Optional.ofNullable(card)
-                .map(Card::rank)
-                .orElse(0);
+        return nonNull(card) ? card.rank() : 0;
     }
 
     public static int rankDifference(Card a, Card b) {
@@ -53,15 +46,18 @@ public class CardHelper {
     }
 
     public static int suitCode(Card card) {
-        return switch (requireNonNull(card).suit().toLowerCase()) {
-            case "c" -> 0;
-            case "d" -> 1;
-            case "h" -> 2;
-            default -> 3;
-        };
+        return requireNonNull(card).suitCode();
+    }
+
+    public static int cardCode(Card card) {
+        return card.code();
     }
 
     public static String suit(int code) {
+        return suit(code, DEFAULT.useSuit());
+    }
+
+    public static String suit(int code, boolean useSuit) {
         return switch (code % 4) {
             case 0 -> useSuit ? CLUB : "C";
             case 1 -> useSuit ? DIAMOND : "D";
@@ -82,16 +78,53 @@ public class CardHelper {
     }
 
     public static Card[] toCards(String[] cards) {
+        return toCards(cards, DEFAULT.useSuit());
+    }
+
+    public static Card[] toCards(String[] cards, boolean useSuit) {
         requireNonNull(cards);
         return range(0, cards.length)
-                .mapToObj(i -> buildCard(i, cards[i]))
+                .mapToObj(i -> buildCard(i, cards[i], useSuit))
                 .toArray(Card[]::new);
     }
 
     public static Card buildCard(int at, String value) {
+        return buildCard(at, value, DEFAULT.useSuit());
+    }
+
+    /**
+     * Cards are immutable, so each card of a deal position is built once per suit style and shared from then on.
+     * The style only changes how a card is shown: cards of either style equal each other.
+     */
+    public static Card buildCard(int at, String value, boolean useSuit) {
         assert nonNull(value) && value.length() == 2 && VALUES.indexOf(value.charAt(0)) >= 0
                 : "Invalid card value/suit: " + value;
 
+        var code = SUIT_LETTERS.indexOf(value.charAt(1)) * 13 + VALUES.indexOf(value.charAt(0));
+
+        return 0 <= code && code < 52 ? buildCard(at, code, useSuit) : newCard(at, value, useSuit);
+    }
+
+    /**
+     * Build a card from its code, suit * 13 + rank - 1, as generated deals are, without parsing a card text.
+     */
+    public static Card buildCard(int at, int code, boolean useSuit) {
+        assert 0 <= code && code < 52 : "Invalid card code: " + code;
+
+        if (0 <= at && at < MAX_AT) {
+            var cards = CARDS[useSuit ? 1 : 0];
+            var index = at * 52 + code;
+
+            return Optional.ofNullable(cards[index]).orElseGet(() -> cards[index] = newCard(at, value(code), useSuit));
+        }
+        return newCard(at, value(code), useSuit);
+    }
+
+    private static String value(int code) {
+        return String.valueOf(VALUES.charAt(code % 13)) + SUIT_LETTERS.charAt(code / 13);
+    }
+
+    private static Card newCard(int at, String value, boolean useSuit) {
         return new Card(at, value.substring(0, 1), value.substring(1),
                 useSuit ? value.charAt(0) + getSuit(value.substring(1)) : value);
     }
@@ -103,7 +136,7 @@ public class CardHelper {
     public static Card nextCard(Card card, int suitCode) {
         return nonNull(card)
                 ? card(nextValue(card.value()) + card.suit())
-                : card("A" + suit(suitCode).toLowerCase());
+                : card("A" + suit(suitCode, false).toLowerCase());
     }
 
     public static Card nextCard(Card card) {
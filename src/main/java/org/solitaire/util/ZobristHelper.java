@@ -0,0 +1,129 @@
+package org.solitaire.util;
+
+import org.solitaire.model.Candidate;
+import org.solitaire.model.Card;
+import org.solitaire.model.Origin;
+
+import java.rmi.AccessException;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static org.solitaire.util.CardHelper.cardCode;
+
+/**
+ * Zobrist keys for board states: every (pile, position, card) triple maps to a fixed 64-bit key, and a state hash
+ * is the XOR of the keys of everything on the board. Moving a card toggles the old and new keys out of/into the
+ * hash, so boards can maintain it incrementally. Keys come from a SplitMix64 finalizer instead of a random table.
+ */
+public class ZobristHelper {
+    public static final int FOUNDATION = 16;
+    public static final int FREECELL = 17;
+    public static final int DECK = 18;
+    public static final int DECKPILE = 19;
+    public static final int BOARD = 20;
+    public static final int FLAGS = 21;
+
+    private static final int OPEN_AT = 52;
+    private static final int COUNTER = 53;
+    private static final int MOVES = 22;
+
+    ZobristHelper() throws AccessException {
+        throw new AccessException("Instantiating an utility class.");
+    }
+
+    public static long key(int pile, int pos, Card card) {
+        return isNull(card) ? 0 : key(pile, pos, cardCode(card));
+    }
+
+    public static long openAtKey(int pile, int openAt) {
+        return key(pile, openAt + 1, OPEN_AT);
+    }
+
+    public static long counterKey(int pile, int count) {
+        return key(pile, count, COUNTER);
+    }
+
+    public static long flagKey(int flag, boolean value) {
+        return value ? key(FLAGS, flag, COUNTER) : 0;
+    }
+
+    public static long moveKey(String notation) {
+        return mix(((long) MOVES << 40) ^ Candidate.notationHash(notation));
+    }
+
+    /**
+     * The key of the candidate's notation, the same as {@link #moveKey(String)} of it.
+     */
+    public static long moveKey(Candidate candidate) {
+        return mix(((long) MOVES << 40) ^ candidate.notationHash());
+    }
+
+    /**
+     * The key of a move by its piles and the hash of its cards, for keys that renumber the piles named by the moves.
+     */
+    public static long moveKey(Origin origin, int from, Origin target, int to, long cards) {
+        return mix(((long) MOVES << 40 | origin.ordinal() << 24 | from << 16 | target.ordinal() << 8 | to) ^ cards);
+    }
+
+    public static long hash(int pile, List<Card> cards) {
+        var hash = 0L;
+
+        for (int i = 0; i < cards.size(); i++) {
+            hash ^= key(pile, i, cards.get(i));
+        }
+        return hash;
+    }
+
+    public static long hash(int pile, Card[] cards) {
+        var hash = 0L;
+
+        for (int i = 0; i < cards.length; i++) {
+            hash ^= key(pile, i, cards[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * A hash of the piles that does not depend on their order: each pile is hashed as if it were the first, mixed so
+     * that piles sharing cards at the same positions do not cancel out, and the piles are summed.
+     */
+    public static long unorderedHash(List<? extends List<Card>> piles) {
+        return unorderedHash(piles.stream().mapToLong(it -> hash(0, it)).toArray());
+    }
+
+    /**
+     * The same hash as {@link #unorderedHash(List)}, of the piles given by their hashes as first piles.
+     */
+    public static long unorderedHash(long[] hashes) {
+        var hash = 0L;
+
+        for (var it : hashes) {
+            hash += it == 0 ? 0 : mix(it);
+        }
+        return hash;
+    }
+
+    /**
+     * A hash of the cards that does not depend on the slots they are in.
+     */
+    public static long unorderedHash(int pile, Card[] cards) {
+        var hash = 0L;
+
+        for (var card : cards) {
+            hash ^= key(pile, 0, card);
+        }
+        return hash;
+    }
+
+    private static long key(int pile, int pos, int code) {
+        return mix(((long) pile << 40) | ((long) pos << 8) | code);
+    }
+
+    protected static long mix(long value) {
+        var z = (value + 1) * 0x9E3779B97F4A7C15L;
+
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
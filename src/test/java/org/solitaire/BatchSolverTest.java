@@ -0,0 +1,91 @@
+package org.solitaire;
+
+import org.junit.jupiter.api.Test;
+import org.solitaire.model.Budget;
+import org.solitaire.tripeaks.TriPeaksHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.BatchSolver.FAILED;
+import static org.solitaire.BatchSolver.findDeals;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
+
+class BatchSolverTest {
+    private static final Path TRIPEAKS_DIR = Path.of("games", "tripeaks");
+    private static final Path TEST_FILE = TRIPEAKS_DIR.resolve("tripeaks-easy.txt");
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final BatchSolver batchSolver = new BatchSolver(DEFAULT.useSuit(false).singleSolution(true),
+            Budget.UNLIMITED, 2, it -> TriPeaksHelper::build, new PrintStream(outputStream));
+
+    @Test
+    void test_findDeals_directory() {
+        var deals = findDeals(Path.of("games"));
+
+        assertTrue(deals.contains(TEST_FILE));
+        assertTrue(deals.stream().allMatch(it -> it.toString().endsWith(".txt")));
+        assertTrue(deals.stream().anyMatch(it -> it.startsWith(Path.of("games", "klondike"))));
+    }
+
+    @Test
+    void test_findDeals_manifest() throws IOException {
+        var manifest = Files.createTempFile("deals", ".lst");
+
+        Files.write(manifest, List.of("# nightly", "", "  a.txt ", "/tmp/b.txt"));
+
+        assertEquals(List.of(manifest.getParent().resolve("a.txt"), Path.of("/tmp/b.txt")), findDeals(manifest));
+        assertThrows(RuntimeException.class, () -> findDeals(Path.of("games", "missing")));
+    }
+
+    @Test
+    void test_run() {
+        var results = batchSolver.run(List.of(TEST_FILE, TEST_FILE, Path.of("missing.txt")));
+        var lines = outputStream.toString().lines().toList();
+
+        assertEquals(3, results.size());
+        assertEquals(3, lines.size());
+        assertEquals("SOLVED", results.get(0).status());
+        assertEquals(1, results.get(0).solutions());
+        assertEquals(results.get(0).path(), results.get(1).path());
+        assertEquals(FAILED, results.get(2).status());
+        assertTrue(results.get(2).error().contains("missing.txt"));
+        assertTrue(lines.containsAll(results.stream().map(BatchSolver.Result::toJson).toList()));
+    }
+
+    @Test
+    void test_run_timeLimit() {
+        var batch = new BatchSolver(DEFAULT, Budget.UNLIMITED.maxNodes(10), 1, it -> TriPeaksHelper::build,
+                new PrintStream(outputStream));
+        var result = batch.run(List.of(TEST_FILE)).get(0);
+
+        assertEquals("OUT_OF_BUDGET", result.status());
+        assertEquals(10, result.scenarios());
+        assertNull(result.error());
+    }
+
+    @Test
+    void test_workers() {
+        assertThrows(RuntimeException.class, () -> new BatchSolver(DEFAULT, Budget.UNLIMITED, 0,
+                it -> TriPeaksHelper::build, System.out));
+    }
+
+    @Test
+    void test_toJson() {
+        var result = new BatchSolver.Result("games\\a \"b\".txt", "SOLVED", 12, 34, 1, "[Ac, 2d]", null);
+
+        assertEquals("{\"deal\": \"games\\\\a \\\"b\\\".txt\", \"status\": \"SOLVED\", \"millis\": 12, "
+                + "\"scenarios\": 34, \"solutions\": 1, \"path\": \"[Ac, 2d]\"}", result.toJson());
+        assertEquals("{\"deal\": \"a.txt\", \"status\": \"FAILED\", \"millis\": 0, \"scenarios\": 0, "
+                        + "\"solutions\": 0, \"path\": null, \"error\": \"oops\"}",
+                new BatchSolver.Result("a.txt", FAILED, 0, 0, 0, null, "oops").toJson());
+    }
+}
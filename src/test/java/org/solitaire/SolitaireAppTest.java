@@ -1,5 +1,6 @@
 package org.solitaire;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,8 +9,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.solitaire.model.GameSolver;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -18,19 +24,42 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
+import static org.solitaire.BatchSolver.FAILED;
+import static org.solitaire.SolitaireApp.BATCH;
+import static org.solitaire.SolitaireApp.BEST_FIRST;
+import static org.solitaire.SolitaireApp.DEDUP;
+import static org.solitaire.SolitaireApp.DEDUP_SIZE;
+import static org.solitaire.SolitaireApp.FREECELL;
+import static org.solitaire.SolitaireApp.HIGH_SCORE;
+import static org.solitaire.SolitaireApp.IN_PLACE;
+import static org.solitaire.SolitaireApp.KLONDIKE;
+import static org.solitaire.SolitaireApp.NO_AUTO_PLAY;
+import static org.solitaire.SolitaireApp.OPTIMAL;
+import static org.solitaire.SolitaireApp.PARALLEL;
 import static org.solitaire.SolitaireApp.PRINT;
+import static org.solitaire.SolitaireApp.PROGRESS;
+import static org.solitaire.SolitaireApp.PROGRESS_INTERVAL;
 import static org.solitaire.SolitaireApp.PYRAMID;
 import static org.solitaire.SolitaireApp.SINGLE_SOLUTION;
+import static org.solitaire.SolitaireApp.TIME_LIMIT;
 import static org.solitaire.SolitaireApp.TRIPEAKS;
 import static org.solitaire.SolitaireApp.USE_SUITS;
+import static org.solitaire.SolitaireApp.WORKERS;
 import static org.solitaire.SolitaireApp.app;
+import static org.solitaire.SolitaireApp.buildConfig;
+import static org.solitaire.SolitaireApp.checkAutoPlay;
+import static org.solitaire.SolitaireApp.checkBestFirst;
+import static org.solitaire.SolitaireApp.checkDedup;
+import static org.solitaire.SolitaireApp.checkHighScoring;
+import static org.solitaire.SolitaireApp.checkInPlace;
+import static org.solitaire.SolitaireApp.checkOptimal;
+import static org.solitaire.SolitaireApp.checkParallel;
 import static org.solitaire.SolitaireApp.checkPrint;
+import static org.solitaire.SolitaireApp.checkProgress;
 import static org.solitaire.SolitaireApp.checkSingleSolution;
 import static org.solitaire.SolitaireApp.checkUseSuits;
 import static org.solitaire.SolitaireApp.main;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
-import static org.solitaire.util.CardHelper.useSuit;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
 
 @ExtendWith(MockitoExtension.class)
 class SolitaireAppTest {
@@ -47,13 +76,10 @@ class SolitaireAppTest {
         gameSolver = spy(gameSolver);
         outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
-        useSuit(false);
-        isPrint(false);
     }
 
     @Test
     void test_main() {
-        isPrint(true);
         main(ARGS);
         assertTrue(outputStream.toString().contains("One Path(47):"));
         assertTrue(outputStream.toString().contains(TEST_FILE));
@@ -61,17 +87,59 @@ class SolitaireAppTest {
         assertFalse(outputStream.toString().contains("with maximum depth of"));
 
         assertThrows(RuntimeException.class, () -> main(new String[]{}));
-        assertFalse(isPrint());
+        assertFalse(app.config().isPrint());
+    }
+
+    @Test
+    void test_main_batch() throws IOException {
+        var manifest = Files.createTempFile("deals", ".lst");
+
+        manifest.toFile().deleteOnExit();
+        Files.write(manifest, Stream.of("tripeaks-easy.txt", "tripeaks-022823-hard.txt")
+                .map(it -> Path.of("games/tripeaks", it).toAbsolutePath().toString())
+                .toList());
+        main(new String[]{manifest.toString(), BATCH, SINGLE_SOLUTION, WORKERS, "2", TIME_LIMIT, "10"});
+
+        var lines = outputStream.toString().lines().filter(it -> it.startsWith("{")).toList();
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.stream().allMatch(it -> it.contains("\"status\": \"SOLVED\"")));
+        assertTrue(app.config().singleSolution());
+    }
+
+    @Test
+    void test_runBatch_malformed() throws IOException {
+        var dir = Files.createTempDirectory("deals");
+        var deal = Files.writeString(dir.resolve("malformed.txt"), "Ah 2h 3h");
+
+        deal.toFile().deleteOnExit();
+        dir.toFile().deleteOnExit();
+
+        var results = app.runBatch(new String[]{dir.toString(), BATCH, SINGLE_SOLUTION, PYRAMID});
+
+        assertEquals(1, results.size());
+        assertEquals(FAILED, results.get(0).status());
+        assertNotNull(results.get(0).error());
     }
 
     @Test
     void test_check() {
-        checkPrint(ARGS);
-        assertFalse(isPrint());
+        assertFalse(checkPrint(ARGS, DEFAULT).isPrint());
 
         ARGS[1] = PRINT;
-        checkPrint(ARGS);
-        assertTrue(isPrint());
+        assertTrue(checkPrint(ARGS, DEFAULT).isPrint());
+    }
+
+    @Test
+    void test_buildConfig() {
+        var config = buildConfig(new String[]{TEST_FILE, TRIPEAKS, USE_SUITS, DEDUP, IN_PLACE});
+
+        assertTrue(config.useSuit());
+        assertFalse(config.singleSolution());
+        assertEquals(DEDUP_SIZE, config.transpositionSize());
+        assertTrue(config.inPlace());
+        assertEquals(DEFAULT.drawNumber(), config.drawNumber());
+        assertEquals(DEFAULT.useSuit(false), buildConfig(new String[]{TEST_FILE, TRIPEAKS}));
     }
 
     @Test
@@ -82,6 +150,15 @@ class SolitaireAppTest {
         assertEquals("HHh", outputStream.toString().trim());
     }
 
+    @Test
+    void test_checkHighScore() {
+        when(gameSolver.highScore()).thenReturn(Pair.of(1_255, List.of("ABC")));
+        when(gameSolver.pathString(List.of("ABC"))).thenReturn("[ABC]");
+
+        app.checkHighScore(gameSolver);
+        assertEquals("High Score(1,255): [ABC]", outputStream.toString().trim());
+    }
+
     @Test
     void test_run_emptyArgs() {
         assertThrows(NoSuchElementException.class, () -> app.run(new String[]{}));
@@ -93,8 +170,8 @@ class SolitaireAppTest {
         app.run(ARGS);
 
         assertTrue(app.stopWatch().isStopped());
-        assertTrue(useSuit());
-        assertFalse(singleSolution());
+        assertTrue(app.config().useSuit());
+        assertFalse(app.config().singleSolution());
         assertNotNull(app.solver());
         assertEquals(7983, app.solver().totalSolutions());
         assertTrue(outputStream.toString().contains("Max Score"));
@@ -127,19 +204,65 @@ class SolitaireAppTest {
 
     @Test
     void test_checkUseSuits() {
-        checkUseSuits(ARGS);
+        assertFalse(checkUseSuits(ARGS, DEFAULT).useSuit());
+        assertTrue(checkUseSuits(new String[]{TEST_FILE, TRIPEAKS, USE_SUITS}, DEFAULT).useSuit());
+    }
+
+    @Test
+    void test_checkDedup() {
+        assertEquals(DEDUP_SIZE, checkDedup(new String[]{TEST_FILE, TRIPEAKS, DEDUP}, DEFAULT).transpositionSize());
+        assertEquals(0, checkDedup(ARGS, DEFAULT).transpositionSize());
+    }
 
-        checkUseSuits(new String[]{TEST_FILE, TRIPEAKS});
-        assertFalse(useSuit());
+    @Test
+    void test_checkBestFirst() {
+        assertTrue(checkBestFirst(new String[]{TEST_FILE, TRIPEAKS, BEST_FIRST}, DEFAULT).bestFirst());
+        assertFalse(checkBestFirst(ARGS, DEFAULT).bestFirst());
     }
 
     @Test
-    void test_checkSingleSolution() {
-        checkSingleSolution(ARGS);
-        assertTrue(singleSolution());
+    void test_checkParallel() {
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                checkParallel(new String[]{TEST_FILE, TRIPEAKS, PARALLEL}, DEFAULT).parallelism());
+        assertEquals(0, checkParallel(ARGS, DEFAULT).parallelism());
+    }
+
+    @Test
+    void test_checkInPlace() {
+        assertTrue(checkInPlace(new String[]{TEST_FILE, TRIPEAKS, IN_PLACE}, DEFAULT).inPlace());
+        assertFalse(checkInPlace(ARGS, DEFAULT).inPlace());
+    }
+
+    @Test
+    void test_checkProgress() {
+        assertEquals(PROGRESS_INTERVAL,
+                checkProgress(new String[]{TEST_FILE, TRIPEAKS, PROGRESS}, DEFAULT).progressInterval());
+        assertEquals(0, checkProgress(ARGS, DEFAULT).progressInterval());
+    }
 
-        checkSingleSolution(new String[]{TRIPEAKS, SINGLE_SOLUTION});
-        assertTrue(singleSolution());
+    @Test
+    void test_checkOptimal() {
+        assertTrue(checkOptimal(new String[]{TEST_FILE, FREECELL, OPTIMAL}, DEFAULT).optimal());
+        assertFalse(checkOptimal(ARGS, DEFAULT).optimal());
+    }
+
+    @Test
+    void test_checkHighScoring() {
+        assertTrue(checkHighScoring(new String[]{TEST_FILE, KLONDIKE, HIGH_SCORE}, DEFAULT).highScoring());
+        assertFalse(checkHighScoring(ARGS, DEFAULT).highScoring());
+    }
+
+    @Test
+    void test_checkAutoPlay() {
+        assertFalse(checkAutoPlay(new String[]{TEST_FILE, FREECELL, NO_AUTO_PLAY}, DEFAULT).autoPlay());
+        assertTrue(checkAutoPlay(ARGS, DEFAULT).autoPlay());
+    }
+
+    @Test
+    void test_checkSingleSolution() {
+        assertTrue(checkSingleSolution(ARGS, DEFAULT).singleSolution());
+        assertTrue(checkSingleSolution(new String[]{TRIPEAKS, SINGLE_SOLUTION}, DEFAULT).singleSolution());
+        assertFalse(checkSingleSolution(new String[]{TEST_FILE, TRIPEAKS}, DEFAULT).singleSolution());
     }
 
 }
\ No newline at end of file
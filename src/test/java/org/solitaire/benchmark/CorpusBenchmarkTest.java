@@ -0,0 +1,101 @@
+package org.solitaire.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.solitaire.model.Budget;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.benchmark.CorpusBenchmark.ALL;
+import static org.solitaire.benchmark.CorpusBenchmark.findDeals;
+import static org.solitaire.benchmark.CorpusBenchmark.readResults;
+import static org.solitaire.benchmark.CorpusBenchmark.regressions;
+import static org.solitaire.benchmark.CorpusBenchmark.settings;
+import static org.solitaire.benchmark.CorpusBenchmark.solve;
+import static org.solitaire.benchmark.CorpusBenchmark.writeResults;
+import static org.solitaire.model.SolveResult.Status.EXHAUSTED;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+import static org.solitaire.model.SolveResult.Status.TIMED_OUT;
+
+class CorpusBenchmarkTest {
+    private static final Path GAMES = Path.of("games");
+    private static final DealResult BASE =
+            new DealResult("tripeaks/deal.txt", ALL, EXHAUSTED, 1_000_000_000L, 1000, 10, 1000, 1000);
+
+    @Test
+    void test_settings() {
+        var settings = settings("4, 8");
+
+        assertEquals(List.of("hsd4", "hsd8", ALL), settings.stream().map(CorpusBenchmark.Setting::name).toList());
+        assertTrue(settings.get(0).config().singleSolution());
+        assertEquals(8, settings.get(1).config().hsdDepth());
+        assertFalse(settings.get(2).config().singleSolution());
+    }
+
+    @Test
+    void test_findDeals() {
+        var deals = findDeals(GAMES).toList();
+
+        assertTrue(deals.contains(GAMES.resolve("tripeaks").resolve("tripeaks-easy.txt")));
+        assertTrue(deals.stream().allMatch(it -> it.toString().endsWith(".txt")));
+        assertEquals(GAMES.resolve("freecell"), deals.get(0).getParent());
+    }
+
+    @Test
+    void test_solve() {
+        var deal = GAMES.resolve("tripeaks").resolve("tripeaks-easy.txt");
+        var result = solve(GAMES, deal, settings("6").get(0), Budget.UNLIMITED);
+
+        assertEquals("tripeaks/tripeaks-easy.txt", result.deal());
+        assertEquals("hsd6", result.setting());
+        assertEquals(SOLVED, result.status());
+        assertEquals(1, result.solutions());
+        assertTrue(result.scenarios() > 0);
+        assertTrue(result.wallNanos() > 0);
+        assertTrue(result.peakHeap() > 0);
+    }
+
+    @Test
+    void test_writeResults() throws IOException {
+        var path = Files.createTempDirectory("corpus").resolve("results.json");
+        var results = List.of(BASE, new DealResult("pyramid/deal.txt", "hsd4", SOLVED, 1, 2, 1, 3, 4));
+
+        writeResults(path, results);
+
+        assertEquals(results, readResults(path));
+        assertTrue(Files.readString(path).startsWith("[\n  {"));
+    }
+
+    @Test
+    void test_regressions() {
+        assertTrue(regressions(List.of(BASE), List.of(BASE), 0.1).isEmpty());
+        assertTrue(regressions(List.of(slower(BASE, 1.05)), List.of(BASE), 0.1).isEmpty());
+        assertEquals(List.of("tripeaks/deal.txt all: wall time 1,000,000,000 -> 1,500,000,000 (+50.0%)"),
+                regressions(List.of(slower(BASE, 1.5)), List.of(BASE), 0.1));
+        assertTrue(regressions(List.of(slower(BASE, 1.5)), List.of(), 0.1).isEmpty());
+    }
+
+    @Test
+    void test_regressions_changed() {
+        var timedOut = new DealResult(BASE.deal(), ALL, TIMED_OUT, 2_000_000_000L, 500, 10, 1000, 2000);
+
+        assertEquals(List.of("status EXHAUSTED -> TIMED_OUT", "allocated bytes 1,000 -> 2,000 (+100.0%)"),
+                CorpusBenchmark.regressions(timedOut, BASE, 0.1));
+        assertEquals(List.of("scenarios within the time limit 1,000 -> 500"),
+                CorpusBenchmark.regressions(timedOut, new DealResult(BASE.deal(), ALL, TIMED_OUT, 0, 1000, 10, 1000,
+                        2000), 0.1));
+        assertEquals(List.of("solutions 10 -> 9", "scenarios 1,000 -> 2,000 (+100.0%)"),
+                CorpusBenchmark.regressions(new DealResult(BASE.deal(), ALL, EXHAUSTED, 0, 2000, 9, 1000, 1000),
+                        BASE, 0.1));
+    }
+
+    private static DealResult slower(DealResult result, double factor) {
+        return new DealResult(result.deal(), result.setting(), result.status(), (long) (result.wallNanos() * factor),
+                result.scenarios(), result.solutions(), result.peakHeap(), result.allocatedBytes());
+    }
+}
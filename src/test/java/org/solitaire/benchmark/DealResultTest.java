@@ -0,0 +1,39 @@
+package org.solitaire.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.model.SolveResult.Status.TIMED_OUT;
+
+class DealResultTest {
+    private final DealResult result =
+            new DealResult("klondike/deal.txt", "hsd6", TIMED_OUT, 1_500_000_000L, 12345, 2, 64L << 20, 3L << 30);
+
+    @Test
+    void test_toJson() {
+        assertEquals("{\"deal\": \"klondike/deal.txt\", \"setting\": \"hsd6\", \"status\": \"TIMED_OUT\", "
+                + "\"wallNanos\": 1500000000, \"scenarios\": 12345, \"solutions\": 2, \"peakHeap\": 67108864, "
+                + "\"allocatedBytes\": 3221225472}", result.toJson());
+    }
+
+    @Test
+    void test_fromJson() {
+        assertEquals(Optional.of(result), DealResult.fromJson("  " + result.toJson() + ","));
+        assertTrue(DealResult.fromJson("[").isEmpty());
+    }
+
+    @Test
+    void test_key() {
+        assertEquals("klondike/deal.txt hsd6", result.key());
+    }
+
+    @Test
+    void test_toString() {
+        assertTrue(result.toString().startsWith("klondike/deal.txt"));
+        assertTrue(result.toString().contains("1,500ms"));
+        assertTrue(result.toString().contains("12,345 scenarios"));
+    }
+}
@@ -0,0 +1,44 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrontierTest {
+    @Test
+    void test_poll() {
+        var frontier = new Frontier<String>(10, String::length);
+
+        frontier.add("ccc");
+        frontier.add("a");
+        frontier.add("bb");
+        frontier.add("d");
+
+        assertEquals(4, frontier.size());
+        assertEquals(1, frontier.peekCost());
+        assertEquals("d", frontier.poll());
+        assertEquals("a", frontier.poll());
+        assertEquals("bb", frontier.poll());
+        assertEquals("ccc", frontier.poll());
+        assertTrue(frontier.isEmpty());
+        assertFalse(frontier.isNotEmpty());
+    }
+
+    @Test
+    void test_add_evicted() {
+        var frontier = new Frontier<String>(2, String::length);
+
+        frontier.add("bb");
+        frontier.add("ccc");
+        frontier.add("a");
+
+        assertEquals(2, frontier.capacity());
+        assertEquals(2, frontier.size());
+        assertEquals(1, frontier.evicted());
+        assertEquals("a", frontier.poll());
+        assertEquals("bb", frontier.poll());
+        assertTrue(frontier.isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package org.solitaire.execution;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.model.Card;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Path;
 import org.solitaire.util.IOHelper;
@@ -16,17 +17,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
 import static org.solitaire.model.Origin.COLUMN;
+import static org.solitaire.model.Origin.FREECELL;
 import static org.solitaire.spider.SpiderHelper.build;
-import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelperTest.ONE;
 import static org.solitaire.util.CardHelperTest.THREE;
 import static org.solitaire.util.CardHelperTest.ZERO;
+import static org.solitaire.util.ZobristHelper.moveKey;
 
 public class GameBoardTest {
     protected static final String TEST_FILE = "games/spider/spider-expert-122922.txt";
@@ -41,9 +44,12 @@ public class GameBoardTest {
         return mock;
     }
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
         board = mockState(Objects.requireNonNull(build(cards).board()));
     }
 
@@ -55,6 +61,78 @@ public class GameBoardTest {
         assertEquals("01:Ad", result.get(0).notation());
     }
 
+    @Test
+    void test_addToPath() {
+        var candidate = candidate(card("Ad"), COLUMN, 0, COLUMN, 1);
+        var hash = board.hash();
+
+        board.addToPath(candidate);
+        assertEquals(hash ^ moveKey("01:Ad"), board.hash());
+
+        board.addToPath(candidate);
+        assertEquals(hash ^ moveKey("01:Ad"), board.hash());
+        assertEquals(2, board.path().size());
+        assertFalse(board.isNotRepeatingCandidate(candidate));
+    }
+
+    @Test
+    void test_isNotRepeatingCandidate() {
+        var candidate = candidate(card("Ad"), COLUMN, 0, COLUMN, 1);
+
+        assertTrue(board.isNotRepeatingCandidate(candidate));
+
+        board.path().add(candidate.notation());
+        assertFalse(board.isNotRepeatingCandidate(candidate));
+
+        var copy = mockState(board);
+
+        copy.path().removeLast();
+        assertTrue(copy.isNotRepeatingCandidate(candidate));
+        assertFalse(board.isNotRepeatingCandidate(candidate));
+    }
+
+    @Test
+    void test_encode() {
+        var state = board.encode();
+        var result = board.decode(state);
+
+        assertEquals(board.columns(), result.columns());
+        assertSame(board.isInSequence(), result.isInSequence());
+        assertTrue(result.path().isEmpty());
+        assertEquals(state, result.encode());
+        assertEquals(board.columns().stream().mapToInt(it -> it.size() + 2).sum(), state.size());
+    }
+
+    @Test
+    void test_undo() {
+        var candidate = candidate(card("Ad"), FREECELL, 0, FREECELL, 1);
+        var reverts = new LinkedList<Integer>();
+
+        assertTrue(board.isUndoable());
+        board.onUndo(() -> reverts.add(0));
+        assertSame(board, board.apply(candidate));
+        board.onUndo(() -> reverts.add(1));
+        board.onUndo(() -> reverts.add(2));
+        assertSame(board, board.undo(candidate));
+        assertEquals("[2, 1]", reverts.toString());
+
+        board.apply(candidate);
+        assertThrows(RuntimeException.class, () -> board.undo(candidate(card("Ad"), FREECELL, 0, FREECELL, 1)));
+    }
+
+    @Test
+    void test_revert() {
+        var card = board.peek(0);
+        var candidate = columnToColumn(card, 0, 1);
+        var initial = mockState(board);
+
+        board.column(0).remove(card);
+        board.column(1).add(card);
+        board.revert(candidate);
+
+        assertEquals(initial.columns(), board.columns());
+    }
+
     @Test
     void test_verify() {
         var ex = assertThrows(RuntimeException.class, () -> board.verify());
@@ -0,0 +1,57 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.LongStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveSetTest {
+    @Test
+    void test_add() {
+        var moves = MoveSet.EMPTY.add(123L);
+
+        assertTrue(moves.contains(123L));
+        assertFalse(moves.contains(124L));
+        assertFalse(MoveSet.EMPTY.contains(123L));
+        assertEquals(1, moves.size());
+        assertSame(moves, moves.add(123L));
+    }
+
+    @Test
+    void test_add_shared() {
+        var parent = MoveSet.EMPTY.add(1L);
+        var a = parent.add(17L);
+        var b = parent.add(33L);
+
+        assertTrue(a.contains(1L) && a.contains(17L));
+        assertFalse(a.contains(33L));
+        assertTrue(b.contains(1L) && b.contains(33L));
+        assertFalse(b.contains(17L));
+        assertFalse(parent.contains(17L) || parent.contains(33L));
+    }
+
+    @Test
+    void test_add_deep() {
+        var moves = MoveSet.EMPTY.add(0L).add(1L << 60).add(Long.MIN_VALUE);
+
+        assertTrue(moves.contains(0L));
+        assertTrue(moves.contains(1L << 60));
+        assertTrue(moves.contains(Long.MIN_VALUE));
+        assertFalse(moves.contains(1L << 56));
+        assertEquals(3, moves.size());
+    }
+
+    @Test
+    void test_add_many() {
+        var moves = range(0, 1000).map(i -> i * 0x9E3779B97F4A7C15L)
+                .boxed()
+                .reduce(MoveSet.EMPTY, MoveSet::add, (a, b) -> a);
+
+        assertEquals(1000, moves.size());
+        assertTrue(range(0, 1000).allMatch(i -> moves.contains(i * 0x9E3779B97F4A7C15L)));
+        assertFalse(moves.contains(7L));
+    }
+}
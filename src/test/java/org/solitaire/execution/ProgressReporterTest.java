@@ -0,0 +1,25 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressReporterTest {
+    private final SolveMetrics metrics = new SolveMetrics(1, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    @Test
+    void test_report() throws InterruptedException {
+        var reports = new CountDownLatch(3);
+
+        var reporter = new ProgressReporter(() -> metrics, 1, it -> reports.countDown());
+
+        try {
+            assertTrue(reports.await(5, SECONDS));
+        } finally {
+            reporter.close();
+        }
+    }
+}
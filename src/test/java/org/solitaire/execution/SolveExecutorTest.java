@@ -7,6 +7,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.solitaire.model.Board;
 import org.solitaire.model.BoardStack;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -25,8 +27,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
+import static org.solitaire.execution.TranspositionTable.Replacement.SHALLOWER;
+import static org.solitaire.model.SolveResult.Status.CANCELLED;
+import static org.solitaire.model.SolveResult.Status.OUT_OF_BUDGET;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
 import static org.solitaire.util.CardHelperTest.ONE;
 import static org.solitaire.util.CardHelperTest.THREE;
 import static org.solitaire.util.CardHelperTest.TWO;
@@ -45,14 +49,12 @@ class SolveExecutorTest {
     void setup() {
         outputStream = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStream));
-        isPrint(false);
         executor = new SolveExecutor<>(board);
         executor.cloner(it -> board);
     }
 
     @Test
     void test_defaultSolutionConsumer() {
-        singleSolution(false);
         executor.defaultSolutionConsumer(List.of("1"));
         assertEquals(1, executor.shortestPath().size());
         assertEquals(1, executor.longestPath().size());
@@ -72,14 +74,14 @@ class SolveExecutorTest {
 
         assertEquals("", outputStream.toString());
 
-        isPrint(true);
+        executor.config(executor.config().isPrint(true));
         executor.defaultSolutionConsumer(List.of("2", "3"));
         assertTrue(outputStream.toString().contains("2: 2, 3"));
     }
 
     @Test
     void test_defaultSolutionConsumer_singleSolution() {
-        singleSolution(true);
+        executor.config(executor.config().singleSolution(true));
 
         executor.defaultSolutionConsumer(List.of("1"));
 
@@ -96,7 +98,7 @@ class SolveExecutorTest {
 
     @Test
     void test_isContinuing() {
-        SolveExecutor.singleSolution(true);
+        executor.config(executor.config().singleSolution(true));
 
         assertTrue(executor.isContinuing());
 
@@ -104,6 +106,45 @@ class SolveExecutorTest {
         assertFalse(executor.isContinuing());
     }
 
+    @Test
+    void test_solve_budget() {
+        when(board.isSolved()).thenReturn(true);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        var result = executor.solve(Budget.UNLIMITED, new CancellationToken());
+
+        assertEquals(SOLVED, result.status());
+        assertEquals(ONE, result.totalSolutions());
+        assertEquals(List.of(ABC), result.path());
+    }
+
+    @Test
+    void test_solve_cancelled() {
+        var cancellation = new CancellationToken();
+
+        cancellation.cancel();
+
+        var result = executor.solve(Budget.UNLIMITED, cancellation);
+
+        assertEquals(CANCELLED, result.status());
+        assertEquals(ZERO, result.totalScenarios());
+        assertNull(result.path());
+        assertFalse(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_isWithinBudget() {
+        when(board.isSolved()).thenReturn(false);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.solve(Budget.UNLIMITED.maxNodes(ONE), new CancellationToken());
+
+        assertEquals(ONE, executor.totalScenarios());
+        assertEquals(OUT_OF_BUDGET, executor.status());
+        assertFalse(executor.isWithinBudget());
+        assertEquals(List.of(ABC), executor.bestPath());
+    }
+
     @Test
     void test_solve_cleared() {
         when(board.isSolved()).thenReturn(true);
@@ -129,7 +170,8 @@ class SolveExecutorTest {
 
         assertTrue(executor.stack().isEmpty());
         verify(board, times(TWO)).isSolved();
-        verify(board, never()).path();
+        assertEquals(0, executor.totalSolutions());
+        assertTrue(executor.bestPath().isEmpty());
         assertEquals(TWO, executor.totalScenarios());
         assertEquals(ONE, executor.maxDepth());
     }
@@ -179,6 +221,165 @@ class SolveExecutorTest {
         assertEquals(THREE, executor.maxDepth());
     }
 
+    @Test
+    void test_isNotVisited() {
+        assertNull(executor.transpositionTable());
+        assertTrue(executor.isNotVisited(board));
+
+        when(board.canonicalKey()).thenReturn(123L);
+        when(board.path()).thenReturn(List.of(ABC));
+        executor.transpositionTable(new TranspositionTable(16, SHALLOWER));
+
+        assertTrue(executor.isNotVisited(board));
+        assertFalse(executor.isNotVisited(board));
+    }
+
+    @Test
+    void test_isNotDeadEnd() {
+        assertNull(executor.deadEnd());
+        assertTrue(executor.isNotDeadEnd(board));
+
+        executor.deadEnd(it -> it == board);
+        assertFalse(executor.isNotDeadEnd(board));
+    }
+
+    @Test
+    void test_applyCandidates_deadEnd() {
+        when(board.updateBoard(ABC)).thenReturn(board);
+        when(board.isSolved()).thenReturn(false);
+        executor.deadEnd(it -> true);
+
+        assertTrue(executor.applyCandidates(List.of(ABC), board).toList().isEmpty());
+    }
+
+    @Test
+    void test_constructor_transpositionTable() {
+        executor = new SolveExecutor<>(board, SolverConfig.DEFAULT.transpositionSize(16));
+
+        assertNotNull(executor.transpositionTable());
+        assertEquals(16, executor.transpositionTable().capacity());
+
+        executor.config(SolverConfig.DEFAULT);
+        assertNull(executor.transpositionTable());
+    }
+
+    @Test
+    void test_solveByBestFirst() {
+        when(board.isSolved()).thenReturn(true);
+        when(board.path()).thenReturn(List.of(ABC));
+        when(board.score()).thenReturn(0);
+
+        executor.solveByBestFirst();
+
+        assertEquals(ONE, executor.totalSolutions());
+        assertEquals("[ABC]", executor.shortestPath().toString());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solve_bestFirst() {
+        when(board.isSolved()).thenReturn(false);
+        when(board.path()).thenReturn(List.of(ABC));
+        when(board.score()).thenReturn(0);
+
+        executor.config(executor.config().bestFirst(true));
+        executor.solve();
+
+        assertEquals(ZERO, executor.totalSolutions());
+        assertEquals(ONE, executor.totalScenarios());
+        assertEquals(ONE, executor.maxDepth());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solveOptimally() {
+        when(board.isSolved()).thenReturn(true);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.lowerBound(it -> 0);
+        executor.config(executor.config().optimal(true));
+        executor.solve();
+
+        assertEquals(ONE, executor.totalSolutions());
+        assertEquals(ZERO, executor.totalScenarios());
+        assertEquals("[ABC]", executor.shortestPath().toString());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solveOptimally_unsupported() {
+        var result = assertThrows(RuntimeException.class, () -> executor.solveOptimally());
+
+        assertEquals("Optimal solving is not supported!", result.getMessage());
+    }
+
+    @Test
+    void test_solveInParallel() {
+        when(board.isSolved()).thenReturn(false);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.config(executor.config().parallelism(2));
+        executor.solve();
+
+        assertEquals(ZERO, executor.totalSolutions());
+        assertEquals(ONE, executor.totalScenarios());
+        assertEquals(ONE, executor.maxDepth());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solveInParallel_solved() {
+        when(board.isSolved()).thenReturn(true);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.config(executor.config().parallelism(2));
+        executor.solveInParallel();
+
+        assertEquals(ONE, executor.totalSolutions());
+        assertEquals(ZERO, executor.totalScenarios());
+        assertEquals("[ABC]", executor.shortestPath().toString());
+    }
+
+    @Test
+    void test_solveInPlace() {
+        when(board.isSolved()).thenReturn(false);
+        when(board.isUndoable()).thenReturn(true);
+
+        executor.config(executor.config().inPlace(true));
+        executor.solve();
+
+        assertEquals(ZERO, executor.totalSolutions());
+        assertEquals(ONE, executor.totalScenarios());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solveInPlace_child() {
+        when(board.isSolved()).thenReturn(false, true);
+        when(board.findCandidates()).thenReturn(List.of(ABC));
+        when(board.apply(ABC)).thenReturn(board);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.solveInPlace(board);
+
+        verify(board, times(ONE)).apply(ABC);
+        verify(board, times(ONE)).undo(ABC);
+        assertEquals(ONE, executor.totalSolutions());
+        assertEquals(ONE, executor.totalScenarios());
+        assertEquals("[ABC]", executor.shortestPath().toString());
+    }
+
+    @Test
+    void test_cost() {
+        when(board.path()).thenReturn(List.of(ABC, ABC));
+        when(board.score()).thenReturn(5);
+
+        assertEquals(-3, executor.cost(board));
+
+        executor.heuristic(it -> 1);
+        assertEquals(3, executor.cost(board));
+    }
+
     @Test
     void test_pathString() {
         assertEquals(ABC, executor.pathString(List.of(ABC)));
@@ -189,6 +390,47 @@ class SolveExecutorTest {
         assertThrows(RuntimeException.class, () -> executor.maxScore());
     }
 
+    @Test
+    void test_solveForHighScore() {
+        when(board.isSolved()).thenReturn(true);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.gameScore(it -> 10);
+        executor.scoreEstimate(it -> 10);
+        executor.config(executor.config().highScoring(true));
+        assertNull(executor.highScore());
+        executor.solve();
+
+        assertEquals(ONE, executor.totalSolutions());
+        assertEquals(10, executor.highScore().getLeft());
+        assertEquals(List.of(ABC), executor.highScore().getRight());
+        assertThrows(RuntimeException.class, () -> executor.maxScore());
+        assertTrue(executor.stack().isEmpty());
+    }
+
+    @Test
+    void test_solveForHighScore_pruned() {
+        when(board.isSolved()).thenReturn(false);
+        when(board.path()).thenReturn(List.of(ABC));
+
+        executor.gameScore(it -> 10);
+        executor.scoreEstimate(it -> 10);
+        executor.solveForHighScore();
+
+        verify(board, never()).findCandidates();
+        assertEquals(ZERO, executor.totalSolutions());
+        assertEquals(10, executor.highScore().getLeft());
+    }
+
+    @Test
+    void test_solveForHighScore_unsupported() {
+        var result = assertThrows(RuntimeException.class, () -> executor.solveForHighScore());
+
+        assertEquals("High score is not supported!", result.getMessage());
+        result = assertThrows(RuntimeException.class, () -> executor.highScore());
+        assertEquals("High score is not supported!", result.getMessage());
+    }
+
     void mockSolutionConsumer(List<String> path) {
         assertTrue(nonNull(path));
     }
@@ -0,0 +1,28 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SolveMetricsTest {
+    private final SolveMetrics metrics =
+            new SolveMetrics(2_000_000_000L, 1000, 20, 3, 7, 9, 400, 100, 2, 64L << 20);
+
+    @Test
+    void test_nodesPerSecond() {
+        assertEquals(500, metrics.nodesPerSecond());
+        assertEquals(0, new SolveMetrics(0, 1000, 0, 0, 0, 0, 0, 0, 0, 0).nodesPerSecond());
+    }
+
+    @Test
+    void test_hitRate() {
+        assertEquals(0.25, metrics.hitRate());
+        assertEquals(0, new SolveMetrics(1, 0, 0, 0, 0, 0, 0, 0, 0, 0).hitRate());
+    }
+
+    @Test
+    void test_toString() {
+        assertEquals("2.0s: 1,000 nodes (500/s), frontier 20 in 3 stacks, depth 7/9, dedup 25.0%, 2 solutions, "
+                + "heap 64MB", metrics.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
+import static org.solitaire.execution.TranspositionTable.Replacement.ALWAYS;
+
+class SolverConfigTest {
+    @Test
+    void test_default() {
+        assertFalse(DEFAULT.singleSolution());
+        assertEquals(6, DEFAULT.hsdDepth());
+        assertEquals(3, DEFAULT.drawNumber());
+        assertTrue(DEFAULT.useSuit());
+        assertEquals(0, DEFAULT.transpositionSize());
+        assertEquals(0, DEFAULT.parallelism());
+        assertEquals(0, DEFAULT.progressInterval());
+        assertTrue(DEFAULT.autoPlay());
+        assertFalse(DEFAULT.optimal());
+        assertFalse(DEFAULT.highScoring());
+    }
+
+    @Test
+    void test_setters() {
+        var config = DEFAULT.singleSolution(true).drawNumber(1).replacement(ALWAYS);
+
+        assertTrue(config.singleSolution());
+        assertEquals(1, config.drawNumber());
+        assertEquals(ALWAYS, config.replacement());
+        assertEquals(DEFAULT.hsdDepth(), config.hsdDepth());
+        assertFalse(DEFAULT.singleSolution());
+        assertNotEquals(DEFAULT, config);
+        assertEquals(config, DEFAULT.replacement(ALWAYS).drawNumber(1).singleSolution(true));
+    }
+
+    @Test
+    void test_invalid() {
+        assertThrows(RuntimeException.class, () -> DEFAULT.drawNumber(0));
+        assertThrows(RuntimeException.class, () -> DEFAULT.hsdDepth(0));
+        assertThrows(RuntimeException.class, () -> DEFAULT.parallelism(-1));
+        assertThrows(RuntimeException.class, () -> DEFAULT.progressInterval(-1));
+        assertThrows(NullPointerException.class, () -> DEFAULT.replacement(null));
+    }
+}
@@ -0,0 +1,83 @@
+package org.solitaire.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.execution.TranspositionTable.Replacement.ALWAYS;
+import static org.solitaire.execution.TranspositionTable.Replacement.SHALLOWER;
+
+class TranspositionTableTest {
+    @Test
+    void test_capacity() {
+        assertEquals(16, new TranspositionTable(16, ALWAYS).capacity());
+        assertEquals(16, new TranspositionTable(20, ALWAYS).capacity());
+        assertEquals(2, new TranspositionTable(0, ALWAYS).capacity());
+    }
+
+    @Test
+    void test_isVisited() {
+        var table = new TranspositionTable(16, SHALLOWER);
+
+        assertFalse(table.isVisited(123L, 5));
+        assertTrue(table.isVisited(123L, 5));
+        assertTrue(table.isVisited(123L, 7));
+        assertFalse(table.isVisited(123L, 3));
+        assertTrue(table.isVisited(123L, 4));
+
+        assertEquals(5, table.probes());
+        assertEquals(3, table.hits());
+    }
+
+    @Test
+    void test_isVisited_zeroHash() {
+        var table = new TranspositionTable(16, SHALLOWER);
+
+        assertFalse(table.isVisited(0L, 0));
+        assertTrue(table.isVisited(0L, 0));
+    }
+
+    @Test
+    void test_isVisited_parallel() {
+        var table = new TranspositionTable(1 << 12, SHALLOWER);
+
+        assertEquals(0, range(0, 1000).parallel().filter(i -> table.isVisited(i * 31L, 1)).count());
+        assertEquals(1000, range(0, 1000).parallel().filter(i -> table.isVisited(i * 31L, 2)).count());
+        assertEquals(2000, table.probes());
+        assertEquals(1000, table.hits());
+    }
+
+    @Test
+    void test_clear() {
+        var table = new TranspositionTable(16, SHALLOWER);
+
+        assertFalse(table.isVisited(123L, 5));
+        table.clear();
+        assertFalse(table.isVisited(123L, 5));
+        assertTrue(table.isVisited(123L, 5));
+    }
+
+    @Test
+    void test_replacement_shallower() {
+        var table = new TranspositionTable(2, SHALLOWER);
+
+        assertFalse(table.isVisited(2L, 3));
+        assertFalse(table.isVisited(4L, 5));
+        assertTrue(table.isVisited(2L, 3));
+        assertFalse(table.isVisited(4L, 1));
+        assertTrue(table.isVisited(4L, 1));
+        assertFalse(table.isVisited(2L, 3));
+    }
+
+    @Test
+    void test_replacement_always() {
+        var table = new TranspositionTable(2, ALWAYS);
+
+        assertFalse(table.isVisited(2L, 3));
+        assertFalse(table.isVisited(4L, 5));
+        assertFalse(table.isVisited(2L, 3));
+        assertTrue(table.isVisited(2L, 3));
+    }
+}
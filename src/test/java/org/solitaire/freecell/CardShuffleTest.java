@@ -2,20 +2,19 @@ package org.solitaire.freecell;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.solitaire.util.CardHelper;
 
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.solitaire.freecell.CardShuffle.MAXCOL;
+import static org.solitaire.util.CardHelper.buildCard;
 
 class CardShuffleTest {
     private CardShuffle cardShuffle;
 
     @BeforeEach
     void setup() {
-        CardHelper.useSuit(false);
         cardShuffle = new CardShuffle();
     }
 
@@ -30,4 +29,17 @@ class CardShuffleTest {
         assertEquals("[JD, KD, 2S, 4C, 3S, 6D, 6S]", Arrays.toString(card[0]));
     }
 
+    @Test
+    void test_deal() {
+        var board = cardShuffle.genBoard(617);
+        var expected = Arrays.stream(board)
+                .flatMap(Arrays::stream)
+                .map(it -> it.charAt(0) + it.substring(1).toLowerCase())
+                .toList();
+
+        assertEquals(expected, Arrays.stream(CardShuffle.deal(617))
+                .mapToObj(it -> buildCard(0, it, false).raw())
+                .toList());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package org.solitaire.freecell;
+
+import org.junit.jupiter.api.Test;
+import org.solitaire.model.Budget;
+import org.solitaire.model.SolveResult;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.execution.SolverConfig.DEFAULT;
+import static org.solitaire.model.SolveResult.Status.OUT_OF_BUDGET;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+
+class DealRangeTest {
+    private static final Budget BUDGET = Budget.UNLIMITED.maxNodes(20);
+
+    @Test
+    void test_parse() {
+        var range = DealRange.parse("1..1,000", DEFAULT, BUDGET, 2);
+
+        assertEquals(1, range.from());
+        assertEquals(1000, range.to());
+        assertEquals(617, DealRange.parse("617", DEFAULT, BUDGET, 1).to());
+        assertThrows(RuntimeException.class, () -> DealRange.parse("5..1", DEFAULT, BUDGET, 1));
+        assertThrows(RuntimeException.class, () -> DealRange.parse("0..1", DEFAULT, BUDGET, 1));
+        assertThrows(RuntimeException.class, () -> DealRange.parse("1..2..3", DEFAULT, BUDGET, 1));
+        assertThrows(RuntimeException.class, () -> DealRange.parse("1..a", DEFAULT, BUDGET, 1));
+        assertThrows(RuntimeException.class, () -> DealRange.parse("1..2", DEFAULT, BUDGET, 0));
+    }
+
+    @Test
+    void test_solve() {
+        var summary = new DealRange(1, 10, DEFAULT.singleSolution(true), BUDGET, 3).solve();
+
+        assertEquals(10, summary.deals());
+        assertEquals(10, summary.statuses().values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(Map.of(OUT_OF_BUDGET, 10), summary.statuses());
+        assertEquals(20, summary.scenarios().max());
+        assertEquals(20, summary.scenarios().p50());
+        assertEquals(0, summary.solveRate());
+    }
+
+    @Test
+    void test_solve_failure() {
+        var range = new DealRange(1, 5, DEFAULT.singleSolution(true), BUDGET, 2) {
+            @Override
+            protected SolveResult solve(int game) {
+                if (game == 3) {
+                    throw new RuntimeException("Broken deal");
+                }
+                return super.solve(game);
+            }
+        };
+        var summary = range.solve();
+
+        assertEquals(5, summary.deals());
+        assertEquals(Map.of(OUT_OF_BUDGET, 4), summary.statuses());
+        assertEquals(1, summary.failed());
+        assertEquals(Map.of(3, "java.lang.RuntimeException: Broken deal"), summary.errors());
+        assertEquals(20, summary.scenarios().max());
+        assertTrue(summary.toString().endsWith("Failed 1: {3=java.lang.RuntimeException: Broken deal}"));
+    }
+
+    @Test
+    void test_summary() {
+        var summary = new DealRange.Summary(4, Map.of(SOLVED, 3, OUT_OF_BUDGET, 1), new TreeMap<>(),
+                DealRange.Percentiles.of(new long[]{40, 10, 30, 20}), DealRange.Percentiles.of(new long[0]), 1234);
+
+        assertEquals(3, summary.solved());
+        assertEquals(0, summary.failed());
+        assertEquals(3, summary.toString().lines().count());
+        assertEquals(0.75, summary.solveRate());
+        assertEquals(new DealRange.Percentiles(20, 40, 40, 40), summary.scenarios());
+        assertEquals(new DealRange.Percentiles(0, 0, 0, 0), summary.millis());
+        assertEquals("Scenarios: p50 20, p90 40, p99 40, max 40", summary.toString().lines().toList().get(1));
+    }
+
+    @Test
+    void test_percentiles() {
+        var values = new long[100];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 - i;
+        }
+        assertEquals(new DealRange.Percentiles(50, 90, 99, 100), DealRange.Percentiles.of(values));
+        assertEquals(100, values[0]);
+    }
+}
@@ -2,20 +2,25 @@ package org.solitaire.freecell;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
+import org.solitaire.model.Path;
 import org.solitaire.util.CardHelper;
 import org.solitaire.util.IOHelper;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -29,21 +34,26 @@ import static org.solitaire.model.Origin.DECKPILE;
 import static org.solitaire.model.Origin.FOUNDATION;
 import static org.solitaire.model.Origin.FREECELL;
 import static org.solitaire.util.BoardHelper.isNull;
-import static org.solitaire.util.CardHelper.card;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelper.isCleared;
 import static org.solitaire.util.CardHelper.suitCode;
 import static org.solitaire.util.CardHelper.toArray;
 import static org.solitaire.util.CardHelperTest.TWO;
 
 public class FreeCellBoardTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     public static final String TEST_FILE = "games/freecell/freecell-easy-020623.txt";
     private FreeCellBoard board;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        CardHelper.useSuit(false);
-        board = build(IOHelper.loadFile(TEST_FILE)).board();
+        board = build(IOHelper.loadFile(TEST_FILE), LETTERS).board();
         board.isInSequence(Card::isHigherWithDifferentColor);
+        board.autoPlay(false);
     }
 
     @Test
@@ -395,6 +405,218 @@ public class FreeCellBoardTest {
                 () -> board.updateBoard(candidate(crd, DECKPILE, 0, COLUMN, suitCode(card))));
     }
 
+    @Test
+    void test_hash() {
+        var hash = board.hash();
+        var card = board.column(0).peek();
+
+        board.updateBoard(candidate(card, COLUMN, 0, FREECELL, 0));
+        assertNotEquals(hash, board.hash());
+        assertEquals(recalcHash(board), board.hash());
+
+        board.updateBoard(candidate(card, FREECELL, 0, COLUMN, 0));
+        assertNotEquals(hash, board.hash());
+        assertEquals(recalcHash(board), board.hash());
+
+        board.path().clear();
+        board.resetHash();
+        assertEquals(hash, board.hash());
+
+        board.updateBoard(candidate(card, COLUMN, 0, FOUNDATION, suitCode(card)));
+        assertEquals(recalcHash(board), board.hash());
+    }
+
+    @Test
+    void test_encode() {
+        var initial = new FreeCellBoard(board);
+        var state = board.encode();
+        var card = board.column(0).peek();
+
+        board.updateBoard(candidate(card, COLUMN, 0, FREECELL, 0));
+
+        var moved = board.encode();
+        var result = initial.decode(moved);
+
+        assertNotEquals(state, moved);
+        assertEquals(moved, result.encode());
+        assertEquals(board.columns(), result.columns());
+        assertArrayEquals(board.freeCells, result.freeCells);
+        assertArrayEquals(board.foundations, result.foundations);
+        assertTrue(result.path().isEmpty());
+
+        board.updateBoard(candidate(card, FREECELL, 0, COLUMN, 0));
+        assertEquals(state, board.encode());
+        assertEquals(state.hashCode(), board.encode().hashCode());
+    }
+
+    @Test
+    void test_undo() {
+        var initial = new FreeCellBoard(board);
+        var card = board.column(0).peek();
+        var toFreeCell = candidate(card, COLUMN, 0, FREECELL, 0);
+        var toFoundation = candidate(card, FREECELL, 0, FOUNDATION, suitCode(card));
+        var key = board.canonicalKey();
+
+        board.apply(toFreeCell);
+        board.apply(toFoundation);
+        assertEquals(card, board.foundations[suitCode(card)]);
+        assertEquals(recalcCanonicalKey(board), board.canonicalKey());
+
+        board.undo(toFoundation);
+        assertEquals(card, board.freeCells[0]);
+        assertNull(board.foundations[suitCode(card)]);
+
+        board.undo(toFreeCell);
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(initial.hash(), board.hash());
+        assertEquals(key, board.canonicalKey());
+    }
+
+    @Test
+    void test_isSafeToFoundation() {
+        assertTrue(board.isSafeToFoundation(card("Ad")));
+        assertFalse(board.isSafeToFoundation(card("2d")));
+
+        board.foundations[suitCode(card("Ad"))] = card("2d");
+        assertFalse(board.isSafeToFoundation(card("3d")));
+
+        board.foundations[suitCode(card("Ac"))] = card("2c");
+        assertFalse(board.isSafeToFoundation(card("3d")));
+
+        board.foundations[suitCode(card("As"))] = card("As");
+        assertFalse(board.isSafeToFoundation(card("3d")));
+
+        board.foundations[suitCode(card("As"))] = card("2s");
+        assertTrue(board.isSafeToFoundation(card("3d")));
+        assertFalse(board.isSafeToFoundation(card("4d")));
+    }
+
+    @Test
+    void test_findCandidates_autoPlay() {
+        board.autoPlay(true);
+
+        var result = board.findCandidates();
+
+        assertEquals(1, result.size());
+        assertEquals("6$:Ad", result.get(0).notation());
+
+        board.autoPlay(false);
+        assertTrue(board.findCandidates().size() > 1);
+    }
+
+    @Test
+    void test_updateBoard_autoPlay() {
+        board.autoPlay(true);
+
+        var result = board.updateBoard(board.findCandidates().get(0));
+
+        assertSame(board, result);
+        assertEquals("[6$:Ad, 1$:2d]", board.path().toString());
+        assertEquals(card("2d"), board.foundations[suitCode(card("2d"))]);
+        assertEquals(card("Th"), board.column(6).peek());
+        assertEquals(card("Jh"), board.column(1).peek());
+        assertNull(board.findSafeCandidate());
+    }
+
+    @Test
+    void test_undo_autoPlay() {
+        board.autoPlay(true);
+
+        var initial = new FreeCellBoard(board);
+        var candidate = board.findCandidates().get(0);
+
+        board.apply(candidate);
+        assertEquals(2, board.path().size());
+
+        board.undo(candidate);
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(initial.hash(), board.hash());
+        assertTrue(new FreeCellBoard(board).isAutoPlay());
+    }
+
+    @Test
+    void test_lowerBound() {
+        assertEquals(52 + 8, board.lowerBound());
+        assertTrue(board.hasBlockedCard(toColumn("2c", "Kd", "3c")));
+        assertFalse(board.hasBlockedCard(toColumn("3c", "Kd", "2c")));
+
+        board.foundations[suitCode(card("Ad"))] = board.column(6).pop();
+        board.freeCells[0] = board.column(1).pop();
+        assertEquals(51 + 8, board.lowerBound());
+    }
+
+    private static Column toColumn(String... cards) {
+        var column = new Column();
+
+        Stream.of(cards).map(CardHelper::card).forEach(column::add);
+        return column;
+    }
+
+    @Test
+    void test_canonicalKey() {
+        var key = board.canonicalKey();
+        var hash = recalcHash(board);
+        var column = board.column(0);
+
+        board.columns().set(0, board.column(7));
+        board.columns().set(7, column);
+        board.resetHash();
+        assertEquals(key, board.canonicalKey());
+        assertNotEquals(hash, recalcHash(board));
+
+        var card = board.column(1).peek();
+        var other = new FreeCellBoard(board);
+        var swapped = new FreeCellBoard(board);
+
+        board.updateBoard(candidate(card, COLUMN, 1, FREECELL, 0));
+        other.updateBoard(candidate(card, COLUMN, 1, FREECELL, 3));
+        assertEquals(board.canonicalKey(), other.canonicalKey());
+        assertNotEquals(key, board.canonicalKey());
+
+        column = swapped.column(1);
+        swapped.columns().set(1, swapped.column(6));
+        swapped.columns().set(6, column);
+        swapped.resetHash();
+        swapped.updateBoard(candidate(card, COLUMN, 6, FREECELL, 0));
+        assertEquals(board.canonicalKey(), swapped.canonicalKey());
+
+        board.updateBoard(candidate(card, FREECELL, 0, COLUMN, 1));
+        assertNotEquals(key, board.canonicalKey());
+        assertEquals(key, new FreeCellBoard(board.columns(), new Path<>(), board.freeCells, board.foundations)
+                .canonicalKey());
+    }
+
+    @Test
+    void test_canonicalKey_emptyColumns() {
+        board.column(6).clear();
+        board.column(7).clear();
+        board.resetHash();
+
+        var card = board.column(1).peek();
+        var other = new FreeCellBoard(board);
+
+        board.updateBoard(candidate(card, COLUMN, 1, COLUMN, 6));
+        board.updateBoard(candidate(card, COLUMN, 6, COLUMN, 1));
+        other.updateBoard(candidate(card, COLUMN, 1, COLUMN, 7));
+        other.updateBoard(candidate(card, COLUMN, 7, COLUMN, 1));
+        assertEquals(board.canonicalKey(), other.canonicalKey());
+        assertNotEquals(board.hash(), other.hash());
+    }
+
+    private static long recalcCanonicalKey(FreeCellBoard board) {
+        var clone = new FreeCellBoard(board);
+
+        clone.resetHash();
+        return clone.canonicalKey();
+    }
+
+    private static long recalcHash(FreeCellBoard board) {
+        var clone = new FreeCellBoard(board);
+
+        clone.resetHash();
+        return clone.hash();
+    }
+
     @Test
     void test_isFoundationable() {
         var card = card("Ad");
@@ -416,7 +638,6 @@ public class FreeCellBoardTest {
         assertFalse(board.isMovable(cards, 3, 0));
     }
 
-
     @Test
     void test_maxCardsToMove() {
         var card = board.column(0).peek();
@@ -433,10 +654,49 @@ public class FreeCellBoardTest {
         assertEquals(2, board.maxCardsToMove(1));
 
         board.column(7).clear();
-        assertEquals(3, board.maxCardsToMove(1));
+        assertEquals(4, board.maxCardsToMove(1));
+        assertEquals(2, board.maxCardsToMove(7));
 
         board.column(6).clear();
+        assertEquals(8, board.maxCardsToMove(1));
+        assertEquals(4, board.maxCardsToMove(7));
+
+        board.freeCells[3] = card;
         assertEquals(4, board.maxCardsToMove(1));
+        assertEquals(2, board.maxCardsToMove(7));
+    }
+
+    @Test
+    void test_toColumnCandidate_supermove() {
+        var cards = toArray(card("9h"), card("8c"), card("7d"), card("6s"), card("5h"));
+
+        board.column(7).clear();
+        board.column(1).addAll(List.of(cards));
+        fillFreeCells(1, card("Ts"));
+        board.resetCache();
+
+        var result = board.toColumnCandidate(board.getOrderedCards(1), 1, 7, null);
+
+        assertNull(result);
+
+        board.column(6).clear();
+        board.resetCache();
+        result = board.toColumnCandidate(board.getOrderedCards(1), 1, 7, null);
+        assertNull(result);
+
+        board.column(1).subList(board.column(1).size() - 5, board.column(1).size() - 4).clear();
+        board.resetCache();
+        result = board.toColumnCandidate(board.getOrderedCards(1), 1, 7, null);
+        assertEquals("17:[8c, 7d, 6s, 5h]", result.notation());
+
+        board.column(0).add(card("Td"));
+        result = board.toColumnCandidate(cards, 1, 0, card("Td"));
+        assertNull(result);
+
+        board.column(0).pop();
+        board.column(0).add(card("Tc"));
+        result = board.toColumnCandidate(cards, 1, 0, card("Tc"));
+        assertEquals("10:[9h, 8c, 7d, 6s, 5h]", result.notation());
     }
 
     private void fillFreeCells(int from, Card card) {
@@ -2,8 +2,8 @@ package org.solitaire.freecell;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Column;
-import org.solitaire.util.CardHelper;
 import org.solitaire.util.IOHelper;
 
 import java.util.List;
@@ -13,9 +13,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.solitaire.freecell.FreeCellHelper.LAST_BOARD;
 import static org.solitaire.freecell.FreeCellHelper.LAST_LONG;
 import static org.solitaire.freecell.FreeCellHelper.build;
+import static org.solitaire.freecell.FreeCellHelper.buildBoard;
 import static org.solitaire.freecell.FreeCellHelper.getColumn;
+import static org.solitaire.util.CardHelper.DIAMOND;
+import static org.solitaire.util.CardHelper.SPADE;
 
 class FreeCellHelperTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     private static final String TEST_FILE = "games/freecell/freecell-easy-020623.txt";
     protected static final String[] cards = IOHelper.loadFile(TEST_FILE);
 
@@ -23,8 +27,7 @@ class FreeCellHelperTest {
 
     @BeforeEach
     void setup() {
-        CardHelper.useSuit(false);
-        var freeCell = build(cards);
+        var freeCell = build(cards, LETTERS);
 
         assertNotNull(freeCell);
         var board = freeCell.board();
@@ -43,6 +46,23 @@ class FreeCellHelperTest {
         assertEquals(6, columns.get(7).size());
     }
 
+    @Test
+    void test_build_gameNumber() {
+        var board = build(1, LETTERS).board();
+
+        assertEquals(8, board.columns().size());
+        assertEquals("[0:Jd, 1:Kd, 2:2s, 3:4c, 4:3s, 5:6d, 6:6s]", board.columns().get(0).toString());
+        assertEquals(6, board.columns().get(7).size());
+    }
+
+    @Test
+    void test_buildBoard_default() {
+        var column = buildBoard(cards).get(0);
+
+        assertEquals("6" + SPADE, column.get(0).raw());
+        assertEquals("8" + DIAMOND, column.get(1).raw());
+    }
+
     @Test
     void test_getColumn() {
         assertEquals(0, getColumn(0));
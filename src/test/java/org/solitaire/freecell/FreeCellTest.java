@@ -2,20 +2,25 @@ package org.solitaire.freecell;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
+import org.solitaire.model.Card;
+import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
 import org.solitaire.util.IOHelper;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.solitaire.execution.SolveExecutor.hsdDepth;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.freecell.FreeCellHelper.buildBoard;
-import static org.solitaire.util.CardHelper.useSuit;
+import static org.solitaire.model.SolveResult.Status.OUT_OF_BUDGET;
+import static org.solitaire.util.CardHelper.buildCard;
+import static org.solitaire.util.CardHelper.suitCode;
 
 class FreeCellTest {
     private static final String TEST_FILE = "games/freecell/freecell-easy-020623.txt";
@@ -24,33 +29,88 @@ class FreeCellTest {
     private FreeCell freeCell;
     private FreeCellHSD mockFreeCell;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        isPrint(false);
-        freeCell = new FreeCell(buildBoard(cards));
-        hsdDepth(6);
+        freeCell = new FreeCell(buildBoard(cards, false), SolverConfig.DEFAULT.singleSolution(true).hsdDepth(6));
         FreeCellHSD.add(true);
-        singleSolution(true);
-        mockFreeCell = new FreeCellHSD(buildBoard(cards));
+        mockFreeCell = new FreeCellHSD(buildBoard(cards, false));
     }
 
     @Test
     void test_solveByHSD() {
         freeCell.solveByHSD(freeCell.board());
 
+        assertEquals(4568, freeCell.totalScenarios());
+        assertFalse(freeCell.stack().isEmpty());
+        assertEquals("[6$:Ad, 1$:2d, 6f:Th, 3f:9d, 3f:8s, 35:8h, 3$:As, 3$:3d]", freeCell.board().path().toString());
+    }
+
+    @Test
+    void test_solveByHSD_noAutoPlay() {
+        freeCell = new FreeCell(buildBoard(cards, false), SolverConfig.DEFAULT.singleSolution(true).autoPlay(false));
+        freeCell.solveByHSD(freeCell.board());
+
+        assertFalse(freeCell.board().isAutoPlay());
         assertEquals(31192, freeCell.totalScenarios());
+    }
+
+    @Test
+    void test_solveByHSD_dedup() {
+        freeCell = new FreeCell(buildBoard(cards, false),
+                SolverConfig.DEFAULT.singleSolution(true).transpositionSize(1 << 16));
+        freeCell.solveByHSD(freeCell.board());
+
+        assertEquals(973, freeCell.totalScenarios());
         assertFalse(freeCell.stack().isEmpty());
-        assertEquals("[4f:4c, 3f:9d, 3f:8s, 35:8h, 6$:Ad, 1$:2d]", freeCell.board().path().toString());
+    }
+
+    @Test
+    void test_solveOptimally() {
+        var columns = new Columns();
+
+        Stream.of("Kc Qh", "Kh Qc", "Qs Kd", "Qd Ks", "", "", "", "").map(this::column).forEach(columns::add);
+        freeCell = new FreeCell(columns, SolverConfig.DEFAULT.optimal(true).autoPlay(false).transpositionSize(1 << 16));
+        Stream.of("Jc", "Jd", "Jh", "Js")
+                .map(it -> card(it))
+                .forEach(it -> freeCell.board().foundations[suitCode(it)] = it);
+
+        assertEquals(8, freeCell.board().lowerBound());
+
+        freeCell.solveOptimally();
+
+        assertEquals(1, freeCell.totalSolutions());
+        assertEquals(9, freeCell.shortestPath().size());
+    }
+
+    @Test
+    void test_solve_optimal_budget() {
+        freeCell = new FreeCell(buildBoard(cards, false), SolverConfig.DEFAULT.optimal(true));
+
+        var result = freeCell.solve(Budget.UNLIMITED.maxNodes(500), new CancellationToken());
+
+        assertEquals(OUT_OF_BUDGET, result.status());
+        assertEquals(500, freeCell.totalScenarios());
+        assertEquals(0, freeCell.totalSolutions());
+    }
+
+    private Column column(String cards) {
+        var column = new Column();
+
+        Stream.of(cards.split(" ")).filter(it -> !it.isEmpty()).map(it -> card(it)).forEach(column::add);
+        return column;
     }
 
     @Test
     void test_solve_hsd_noclone() {
-        assertTrue(singleSolution());
+        assertTrue(mockFreeCell.singleSolution());
 
         mockFreeCell.solve();
 
-        assertEquals(31192, mockFreeCell.totalScenarios());
+        assertEquals(4568, mockFreeCell.totalScenarios());
     }
 
     @Test
@@ -65,8 +125,7 @@ class FreeCellTest {
         private static boolean add = true;
 
         FreeCellHSD(Columns columns) {
-            super(columns);
-            singleSolution(true);
+            super(columns, SolverConfig.DEFAULT.singleSolution(true));
         }
 
         static void add(boolean given) {
@@ -1,24 +1,33 @@
 package org.solitaire.klondike;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Candidate;
 import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.model.Columns;
+import org.solitaire.util.CardHelper;
 import org.solitaire.util.IOHelper;
 
+import java.util.LinkedList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
+import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.solitaire.klondike.KlondikeBoard.drawNumber;
 import static org.solitaire.klondike.KlondikeHelper.build;
 import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
@@ -27,23 +36,24 @@ import static org.solitaire.model.Origin.DECKPILE;
 import static org.solitaire.model.Origin.FOUNDATION;
 import static org.solitaire.util.CardHelper.VALUES;
 import static org.solitaire.util.CardHelper.buildCard;
-import static org.solitaire.util.CardHelper.card;
 import static org.solitaire.util.CardHelper.suit;
 import static org.solitaire.util.CardHelper.suitCode;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class KlondikeBoardTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     private static final String TEST_FILE = "games/klondike/klondike-medium-122822.txt";
     protected static final String[] CARDS = IOHelper.loadFile(TEST_FILE);
 
     private KlondikeBoard board;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        drawNumber(3);
-        useSuit(false);
-        board = build(CARDS).board();
+        board = build(CARDS, LETTERS).board();
     }
 
     @Test
@@ -140,7 +150,7 @@ class KlondikeBoardTest {
 
         board.columns().forEach(Column::clear);
         result = board.findCandidates();
-        assertEquals("^^:[4s, 9c, Kd]", result.get(0).notation());
+        assertTrue(result.isEmpty());
 
         board.deck().clear();
         board.deckPile().clear();
@@ -210,7 +220,7 @@ class KlondikeBoardTest {
         var column = board.column(5);
         var foundation = board.foundation(0);
 
-        column.set(5, buildCard(11, "Ad"));
+        column.set(5, buildCard(11, "Ad", false));
 
         assertEquals(6, column.size());
         assertEquals(5, column.openAt());
@@ -257,7 +267,6 @@ class KlondikeBoardTest {
         assertEquals(5, board.deckPile().size());
     }
 
-
     @Test
     void test_removeFromSource_foundation() {
         var card = card("Ad");
@@ -410,6 +419,51 @@ class KlondikeBoardTest {
         assertTrue(board.isSolved());
     }
 
+    @Test
+    void test_scoreEstimate() {
+        assertEquals(525, board.scoreEstimate());
+
+        board.updateBoard(board.findCandidates().get(0));
+        assertTrue(board.totalScore() > 0);
+        assertTrue(board.scoreEstimate() <= 525);
+
+        board.deck().clear();
+        board.deckPile().clear();
+        board.columns().forEach(Column::clear);
+        assertEquals(board.totalScore(), board.scoreEstimate());
+    }
+
+    @Test
+    void test_determinize() {
+        var result = board.determinize(new Random(1));
+
+        assertNotSame(board, result);
+        assertEquals(board.deckPile().peek(), result.deckPile().peek());
+        range(0, board.columns().size()).forEach(i -> {
+            var column = board.column(i);
+            var other = result.column(i);
+
+            assertEquals(column.openAt(), other.openAt());
+            assertEquals(column.subList(column.openAt(), column.size()), other.subList(other.openAt(), other.size()));
+        });
+        assertEquals(sortedHidden(board), sortedHidden(result));
+        assertNotEquals(board.hash(), result.hash());
+        assertEquals(result.hash(), board.determinize(new Random(1)).hash());
+        assertNotEquals(result.hash(), board.determinize(new Random(2)).hash());
+        assertEquals(18 << 8 | result.deck().size() - 1, result.locate(result.deck().peek()));
+    }
+
+    private static List<String> sortedHidden(KlondikeBoard board) {
+        return Stream.of(
+                        board.columns().stream().flatMap(it -> it.subList(0, it.openAt()).stream()),
+                        board.deck().stream(),
+                        board.deckPile().subList(0, board.deckPile().size() - 1).stream())
+                .flatMap(it -> it)
+                .map(Card::raw)
+                .sorted()
+                .toList();
+    }
+
     @Test
     void test_score() {
         assertEquals(-36, board.score());
@@ -465,6 +519,92 @@ class KlondikeBoardTest {
         assertEquals(12, board.calcBlockers());
     }
 
+    @Test
+    void test_locate() {
+        var card = board.column(6).peek();
+
+        assertNull(board.locations());
+        assertEquals(6 << 8 | 6, board.locate(card));
+        assertEquals(18 << 8 | 20, board.locate(board.deck().peek()));
+        assertLocated(board);
+
+        board.column(5).remove(card("2s"));
+        assertEquals(-1, board.locate(card("2s")));
+        assertLocated(board);
+    }
+
+    @Test
+    void test_locate_moves() {
+        var moves = new LinkedList<Candidate>();
+
+        board.locate(board.column(0).peek());
+        var initial = new KlondikeBoard(board);
+        var locations = board.locations();
+
+        for (int i = 0; i < 40; i++) {
+            var candidates = board.findCandidates();
+
+            moves.push(candidates.isEmpty() ? board.drawDeck().get(0) : candidates.get(0));
+            board.apply(moves.peek());
+            assertLocated(board);
+        }
+        moves.forEach(board::undo);
+        assertSame(locations, board.locations());
+        assertTrue(reflectionEquals(initial, board));
+    }
+
+    private static void assertLocated(KlondikeBoard board) {
+        range(0, board.columns().size()).forEach(i -> assertLocated(board, i, board.column(i)));
+        assertLocated(board, 18, board.deck());
+        assertLocated(board, 19, board.deckPile());
+        board.foundations().forEach(it -> assertLocated(board, 16, it));
+    }
+
+    private static void assertLocated(KlondikeBoard board, int pile, List<Card> cards) {
+        range(0, cards.size()).forEach(i -> assertEquals(pile << 8 | i, board.locations()[cards.get(i).code()]));
+    }
+
+    @Test
+    void test_isDeadEnd() {
+        assertFalse(board.isDeadEnd());
+
+        mockColumn(0, "6s", "6c", "4h", "5h");
+        assertTrue(board.isDeadEnd());
+
+        board.column(0).openAt(2);
+        assertFalse(board.isDeadEnd());
+
+        mockColumn(0, "6s", "4h", "5h");
+        assertFalse(board.isDeadEnd());
+
+        mockColumn(0, "6s", "6c", "4h", "5h", "Kc");
+        assertTrue(board.isDeadEnd());
+    }
+
+    @Test
+    void test_isDeadEnd_mutual() {
+        mockColumn(0, "6s", "4h", "5h");
+        mockColumn(1, "6c", "4d", "5d");
+        assertTrue(board.isDeadEnd());
+
+        mockColumn(1, "6c", "5d");
+        assertFalse(board.isDeadEnd());
+    }
+
+    @Test
+    void test_isDeadEnd_king() {
+        mockColumn(0, "Qh", "Kh");
+        assertFalse(board.isDeadEnd());
+    }
+
+    private void mockColumn(int at, String... cards) {
+        var column = board.column(at);
+
+        column.clear();
+        Stream.of(cards).map(CardHelper::card).forEach(column::add);
+        column.openAt(column.size() - 1);
+    }
+
     @Test
     void test_drawDeck() {
         var candidate = board.drawDeck().get(0);
@@ -473,7 +613,7 @@ class KlondikeBoardTest {
 
         assertEquals(DECKPILE, candidate.origin());
         assertEquals(DECKPILE, candidate.target());
-        assertEquals(drawNumber(), candidate.cards().length);
+        assertEquals(board.drawNumber(), candidate.cards().length);
 
         while (!board.deck().isEmpty()) {
             board.updateBoard(board.drawDeck().get(0));
@@ -489,6 +629,171 @@ class KlondikeBoardTest {
         assertFalse(board.stateChanged());
     }
 
+    @Test
+    void test_findStockCandidates() {
+        var result = board.findStockCandidates();
+
+        assertEquals("[^3:3h, ^5:5s, ^3:3d]", result.stream().map(Candidate::notation).toList().toString());
+        assertEquals(List.of(3, 4, 6), result.stream().map(Candidate::from).toList());
+
+        board.deck().clear();
+        assertTrue(board.findStockCandidates().isEmpty());
+    }
+
+    @Test
+    void test_findStockCards() {
+        var result = board.findStockCards();
+
+        assertEquals("[(7d,0), (4s,1), (3c,2), (3h,3), (5s,4), (Qd,5), (3d,6), (Jc,7)]", stockCards(result));
+
+        board.deck().push(board.deckPile().pop());
+        result = board.findStockCards();
+        assertEquals(16, result.size());
+        assertEquals("[(5h,0), (9c,1)]", stockCards(result.subList(0, 2)));
+        assertEquals("[(Jc,8), (7d,9), (4s,10)]", stockCards(result.subList(8, 11)));
+
+        board.stateChanged(false);
+        assertEquals(9, board.findStockCards().size());
+    }
+
+    @Test
+    void test_findStockCards_drawOne() {
+        board = build(CARDS, LETTERS.drawNumber(1)).board();
+
+        var result = board.findStockCards();
+
+        assertEquals(board.deck().size() + board.deckPile().size(), result.size());
+        assertEquals(board.deck().size(), (int) result.get(result.size() - 1).getRight());
+    }
+
+    private static String stockCards(List<Pair<Card, Integer>> cards) {
+        return cards.stream().map(it -> "(" + it.getLeft().raw() + "," + it.getRight() + ")").toList().toString();
+    }
+
+    @Test
+    void test_updateBoard_stock() {
+        var candidate = board.findStockCandidates().get(0);
+        var deckSize = board.deck().size();
+
+        board.updateBoard(candidate);
+
+        assertEquals("[^^:[7d, 5h, Ts], ^3:3h]", board.path().toString());
+        assertEquals(deckSize - 9, board.deck().size());
+        assertEquals(card("7c"), board.deckPile().peek());
+        assertEquals(card("3h"), board.column(3).peek());
+        assertTrue(board.stateChanged());
+    }
+
+    @Test
+    void test_undo_stock() {
+        var initial = new KlondikeBoard(board);
+        var candidate = board.findStockCandidates().get(2);
+
+        board.apply(candidate);
+        assertEquals(initial.path().size() + 1, board.path().size());
+
+        board.undo(candidate);
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(initial.hash(), board.hash());
+    }
+
+    @Test
+    void test_drawDeck_drawOne() {
+        board = build(CARDS, LETTERS.drawNumber(1)).board();
+
+        var copy = new KlondikeBoard(board);
+
+        assertEquals(1, copy.drawNumber());
+        assertEquals(1, copy.drawDeck().get(0).cards().length);
+        assertEquals(3, build(CARDS, LETTERS).board().drawDeck().get(0).cards().length);
+    }
+
+    @Test
+    void test_hash() {
+        var hash = board.hash();
+
+        drawDeckCards();
+        assertNotEquals(hash, board.hash());
+        assertEquals(recalcHash(board), board.hash());
+
+        board.updateBoard(columnToColumn(board.column(6).peek(), 6, 2));
+        assertEquals(recalcHash(board), board.hash());
+
+        while (!board.deck().isEmpty()) {
+            drawDeckCards();
+        }
+        board.drawDeck();
+        assertEquals(recalcHash(board), board.hash());
+    }
+
+    @Test
+    void test_undo() {
+        var initial = new KlondikeBoard(board);
+        var draw = board.drawDeck().get(0);
+        var move = candidate(board.column(6).peek(), COLUMN, 6, FOUNDATION, 0);
+
+        board.apply(draw);
+        board.apply(move);
+        assertEquals(initial.path().size() + 2, board.path().size());
+        assertEquals(1, board.foundation(suitCode(move.peek())).size());
+
+        assertSame(board, board.undo(move));
+        assertSame(board, board.undo(draw));
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(initial.hash(), board.hash());
+        assertThrows(RuntimeException.class, () -> board.undo(move));
+    }
+
+    @Test
+    void test_undo_recycle() {
+        var moves = new LinkedList<Candidate>();
+        var initial = new KlondikeBoard(board);
+
+        while (!board.deck().isEmpty()) {
+            moves.push(board.drawDeck().get(0));
+            board.apply(moves.peek());
+        }
+        assertFalse(board.deckPile().isEmpty());
+        moves.push(board.drawDeck().get(0));
+        assertFalse(board.stateChanged());
+        board.apply(moves.peek());
+
+        moves.forEach(board::undo);
+        assertTrue(reflectionEquals(initial, board));
+        assertTrue(board.stateChanged());
+    }
+
+    @Test
+    void test_encode() {
+        var initial = new KlondikeBoard(board);
+        var state = board.encode();
+
+        while (board.foundations().stream().allMatch(Column::isEmpty)) {
+            board.updateBoard(board.findCandidates().get(0));
+        }
+
+        var moved = board.encode();
+        var result = initial.decode(moved);
+
+        assertNotEquals(state, moved);
+        assertEquals(moved, result.encode());
+        assertEquals(board.columns(), result.columns());
+        assertEquals(board.deck(), result.deck());
+        assertEquals(board.deckPile(), result.deckPile());
+        assertEquals(board.foundations(), result.foundations());
+        assertEquals(board.stateChanged(), result.stateChanged());
+        assertEquals(board.drawNumber(), result.drawNumber());
+        assertTrue(result.path().isEmpty());
+        assertEquals(state, initial.decode(state).encode());
+    }
+
+    private static long recalcHash(KlondikeBoard board) {
+        var clone = new KlondikeBoard(board);
+
+        clone.resetHash();
+        return clone.hash();
+    }
+
     @Test
     void test_verify() {
         var result = board.verify();
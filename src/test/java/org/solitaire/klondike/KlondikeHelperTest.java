@@ -1,7 +1,7 @@
 package org.solitaire.klondike;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.util.IOHelper;
 
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
@@ -9,17 +9,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.solitaire.klondike.KlondikeHelper.LAST_DECK;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class KlondikeHelperTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     private static final String TEST_FILE = "games/klondike/klondike-medium-122822.txt";
     protected static final String[] CARDS = IOHelper.loadFile(TEST_FILE);
 
-    @BeforeEach
-    void setup() {
-        useSuit(false);
-    }
-
     @Test
     void test_of() {
         assertNotNull(KlondikeHelper.of());
@@ -27,7 +22,7 @@ class KlondikeHelperTest {
 
     @Test
     void test_build() {
-        var klondike = KlondikeHelper.build(CARDS).board();
+        var klondike = KlondikeHelper.build(CARDS, LETTERS).board();
 
         assertNotNull(klondike);
         assertEquals("20:Kd", klondike.deck().peek().toString());
@@ -39,7 +34,7 @@ class KlondikeHelperTest {
 
     @Test
     void test_clone() {
-        var state = KlondikeHelper.build(CARDS).board();
+        var state = KlondikeHelper.build(CARDS, LETTERS).board();
         var clone = new KlondikeBoard(state);
 
         assertTrue(reflectionEquals(clone, state));
@@ -0,0 +1,86 @@
+package org.solitaire.klondike;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.Card;
+import org.solitaire.util.IOHelper;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.klondike.KlondikeHelper.build;
+import static org.solitaire.model.Candidate.columnToColumn;
+import static org.solitaire.model.Origin.DECKPILE;
+import static org.solitaire.util.CardHelper.buildCard;
+
+class KlondikeSamplerTest {
+    private static final String TEST_FILE = "games/klondike/klondike-medium-122822.txt";
+    private static final String[] CARDS = IOHelper.loadFile(TEST_FILE);
+    private static final Budget BUDGET = Budget.UNLIMITED.maxNodes(500);
+
+    private KlondikeBoard board;
+
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
+    @BeforeEach
+    void setup() {
+        board = build(CARDS).board();
+    }
+
+    @Test
+    void test_advise() {
+        var hash = board.hash();
+        var result = new KlondikeSampler(board, SolverConfig.DEFAULT, 4, BUDGET, 2, 0).advise();
+
+        assertNotNull(result.move());
+        assertTrue(result.estimates().stream().anyMatch(it -> it.candidate().origin() == DECKPILE
+                && it.candidate().target() == DECKPILE && it.candidate().cards().length == 0));
+        assertTrue(result.estimates().stream().noneMatch(it -> it.candidate().isFromDeck()
+                && it.candidate().from() > 0));
+        result.estimates().forEach(it -> {
+            assertEquals(4, it.trials() + it.undecided());
+            assertTrue(it.wins() <= it.trials());
+            assertTrue(it.winRate() <= result.best().winRate());
+        });
+        assertEquals(hash, board.hash());
+    }
+
+    @Test
+    void test_advise_seed() {
+        var one = new KlondikeSampler(board, SolverConfig.DEFAULT, 3, BUDGET, 3, 7).advise();
+        var other = new KlondikeSampler(board, SolverConfig.DEFAULT, 3, BUDGET, 1, 7).advise();
+
+        assertEquals(one.estimates().toString(), other.estimates().toString());
+    }
+
+    @Test
+    void test_advise_timeLimit() {
+        var result = new KlondikeSampler(board, SolverConfig.DEFAULT, 100, BUDGET.timeLimit(Duration.ZERO), 2, 0)
+                .advise();
+
+        result.estimates().forEach(it -> assertEquals(0, it.trials() + it.undecided()));
+        assertEquals(result.estimates().get(0), result.best());
+    }
+
+    @Test
+    void test_estimate() {
+        var estimate = new KlondikeSampler.Estimate(columnToColumn(card("Qh"), 1, 2), 1, 2, 3);
+
+        assertEquals(0.5, estimate.winRate());
+        assertEquals("12:Qh: 1/2, 3 undecided", estimate.toString());
+        assertEquals(0, new KlondikeSampler.Estimate(estimate.candidate(), 0, 0, 3).winRate());
+    }
+
+    @Test
+    void test_invalid() {
+        assertThrows(RuntimeException.class, () -> new KlondikeSampler(board, SolverConfig.DEFAULT, 0, BUDGET, 1, 0));
+        assertThrows(RuntimeException.class, () -> new KlondikeSampler(board, SolverConfig.DEFAULT, 1, BUDGET, 0, 0));
+    }
+}
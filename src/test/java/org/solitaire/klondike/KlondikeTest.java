@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
 import org.solitaire.model.Columns;
 import org.solitaire.model.Deck;
 import org.solitaire.model.Path;
@@ -16,6 +19,7 @@ import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,13 +27,11 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.klondike.Klondike.SOLUTION_LIMIT;
 import static org.solitaire.klondike.KlondikeHelper.build;
 import static org.solitaire.model.Candidate.columnToColumn;
+import static org.solitaire.model.SolveResult.Status.OUT_OF_BUDGET;
 import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
 import static org.solitaire.util.CardHelperTest.ONE;
 import static org.solitaire.util.CardHelperTest.TWO;
 import static org.solitaire.util.CardHelperTest.ZERO;
@@ -45,9 +47,6 @@ class KlondikeTest {
     @BeforeEach
     void setup() {
         board = spy(board);
-        useSuit(false);
-        singleSolution(false);
-        isPrint(false);
         klondike = mockKlondike();
     }
 
@@ -75,6 +74,7 @@ class KlondikeTest {
                 columnToColumn(card("3d"), 0, 2));
         when(board.isSolved()).thenReturn(false);
         when(board.findCandidates()).thenReturn(candidates);
+        when(board.path()).thenReturn(new Path<>());
         when(board.updateBoard(any())).thenReturn(null);
 
         klondike.solve();
@@ -89,6 +89,7 @@ class KlondikeTest {
     void test_solve_drawDeck() {
         when(board.isSolved()).thenReturn(false);
         when(board.findCandidates()).thenReturn(emptyList());
+        when(board.path()).thenReturn(new Path<>());
 
         klondike.solve();
 
@@ -99,8 +100,7 @@ class KlondikeTest {
 
     @Test
     void test_solveByHDS() {
-        singleSolution(true);
-        klondike = build(IOHelper.loadFile(TEST_FILE));
+        klondike = build(IOHelper.loadFile(TEST_FILE), SolverConfig.DEFAULT.singleSolution(true));
 
         var board = klondike.board();
         klondike.stack().pop();
@@ -114,8 +114,30 @@ class KlondikeTest {
         assertEquals(61, board.path().size());
     }
 
+    @Test
+    void test_deadEnd() {
+        assertNotNull(klondike.deadEnd());
+        assertFalse(klondike.deadEnd().test(build(IOHelper.loadFile(TEST_FILE)).board()));
+    }
+
     @Test
     void test_maxScore_exception() {
+        var result = assertThrows(RuntimeException.class, () -> klondike.maxScore());
+
+        assertEquals("Not ready yet.", result.getMessage());
+    }
+
+    @Test
+    void test_highScore() {
+        klondike = build(IOHelper.loadFile(TEST_FILE), SolverConfig.DEFAULT.highScoring(true));
+
+        assertNull(klondike.highScore());
+
+        var result = klondike.solve(Budget.UNLIMITED.maxNodes(2000), new CancellationToken());
+
+        assertEquals(OUT_OF_BUDGET, result.status());
+        assertEquals(255, klondike.highScore().getLeft());
+        assertEquals(45, klondike.highScore().getRight().size());
         assertThrows(RuntimeException.class, () -> klondike.maxScore());
     }
 
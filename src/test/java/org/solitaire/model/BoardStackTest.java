@@ -55,6 +55,11 @@ class BoardStackTest {
         public Board<Card, Card> updateBoard(Card candidate) {
             return null;
         }
+
+        @Override
+        public long hash() {
+            return score;
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package org.solitaire.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.solitaire.model.Budget.UNLIMITED;
+
+class BudgetTest {
+    @Test
+    void test_setters() {
+        var budget = UNLIMITED.maxNodes(10).timeLimit(Duration.ofSeconds(2)).maxMemory(1024);
+
+        assertEquals(10, budget.maxNodes());
+        assertEquals(2_000_000_000L, budget.timeLimitNanos());
+        assertEquals(1024, budget.maxMemory());
+        assertEquals(Long.MAX_VALUE, UNLIMITED.maxNodes());
+        assertEquals(Long.MAX_VALUE, UNLIMITED.timeLimitNanos());
+    }
+
+    @Test
+    void test_invalid() {
+        assertThrows(RuntimeException.class, () -> UNLIMITED.maxNodes(-1));
+        assertThrows(RuntimeException.class, () -> UNLIMITED.timeLimit(Duration.ofSeconds(-1)));
+        assertThrows(NullPointerException.class, () -> UNLIMITED.timeLimit(null));
+    }
+}
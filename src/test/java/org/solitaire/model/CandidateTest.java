@@ -1,10 +1,12 @@
 package org.solitaire.model;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.solitaire.model.Candidate.candidate;
@@ -15,14 +17,12 @@ import static org.solitaire.model.Origin.DECKPILE;
 import static org.solitaire.model.Origin.FOUNDATION;
 import static org.solitaire.model.Origin.FREECELL;
 import static org.solitaire.model.Origin.REMOVE;
-import static org.solitaire.util.CardHelper.card;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class CandidateTest {
-    @BeforeEach
-    void setup() {
-        useSuit(false);
+    private static Card card(String value) {
+        return buildCard(0, value, false);
     }
 
     @Test
@@ -58,6 +58,24 @@ class CandidateTest {
                 () -> new Candidate(cards, REMOVE, -1, COLUMN, 1).notation());
     }
 
+    @Test
+    void test_notationHash() {
+        var cards = toArray(card("Ks"));
+
+        Stream.of(new Candidate(cards, COLUMN, 0, COLUMN, 12),
+                        new Candidate(cards, FREECELL, -1, FOUNDATION, -1),
+                        new Candidate(cards, DECKPILE, -1, DECKPILE, -1),
+                        new Candidate(cards, BOARD, 1, REMOVE, -1),
+                        new Candidate(cards, COLUMN, -3, COLUMN, 1),
+                        new Candidate(toArray(card("Ks"), card("Qh"), card("Js")), COLUMN, 0, COLUMN, 1),
+                        new Candidate(toArray(), DECKPILE, -1, DECKPILE, -1))
+                .forEach(it -> assertEquals(Candidate.notationHash(it.notation()), it.notationHash()));
+
+        assertNotEquals(new Candidate(cards, COLUMN, 1, COLUMN, 2).notationHash(),
+                new Candidate(cards, COLUMN, 2, COLUMN, 1).notationHash());
+        assertThrows(RuntimeException.class, () -> new Candidate(cards, REMOVE, -1, COLUMN, 1).notationHash());
+    }
+
     @Test
     void test_isKing() {
         assertTrue(columnToColumn(card("Ks"), 1, 0).isKing());
@@ -1,6 +1,5 @@
 package org.solitaire.model;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.solitaire.util.CardHelper;
 
@@ -11,16 +10,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class CardTest {
     private static Card buildCard(String value) {
-        return CardHelper.buildCard(30, value);
-    }
-
-    @BeforeEach
-    void setUp() {
-        useSuit(false);
+        return CardHelper.buildCard(30, value, false);
     }
 
     @Test
@@ -72,6 +65,18 @@ class CardTest {
         assertEquals("Ah", card.raw());
     }
 
+    @Test
+    void test_ordinals() {
+        var card = buildCard("Qh");
+
+        assertEquals(12, card.rank());
+        assertEquals(2, card.suitCode());
+        assertEquals(37, card.code());
+        assertEquals(card.color(), buildCard("2d").color());
+        assertNotEquals(card.color(), buildCard("2s").color());
+        assertEquals(10, new Card(0, "T", "c", "Tc").rank());
+    }
+
     @Test
     void test_equals() {
         var a = buildCard("Ah");
@@ -81,6 +86,15 @@ class CardTest {
 
         b = buildCard("Ad");
         assertNotEquals(a, b);
+        assertEquals(new Card(0, "A", "h", "Ah"), new Card(1, "A", "H", "AH"));
+    }
+
+    @Test
+    void test_isSameSuit() {
+        assertTrue(buildCard("Ah").isSameSuit(buildCard("Kh")));
+        assertTrue(buildCard("Ah").isSameSuit(new Card(0, "K", "H", "KH")));
+        assertTrue(buildCard("Ah").isSameSuit(null));
+        assertFalse(buildCard("Ah").isSameSuit(buildCard("Ad")));
     }
 
     @Test
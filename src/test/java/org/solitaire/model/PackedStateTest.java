@@ -0,0 +1,107 @@
+package org.solitaire.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.solitaire.model.PackedState.NONE;
+import static org.solitaire.util.CardHelper.buildCard;
+import static org.solitaire.util.CardHelper.cardCode;
+
+class PackedStateTest {
+    private Card[] cards;
+    private Card[] pool;
+
+    @BeforeEach
+    void setup() {
+        cards = new Card[]{buildCard(0, "Ac"), buildCard(1, "Td"), buildCard(2, "Kh"), buildCard(3, "2s")};
+        pool = PackedState.pool(Stream.of(cards), Card::at);
+    }
+
+    @Test
+    void test_pool() {
+        var duplicate = buildCard(4, "Ac");
+        var codes = PackedState.pool(Stream.of(cards[0], duplicate, null, cards[2]), it -> cardCode(it));
+
+        assertSame(cards[0], codes[0]);
+        assertSame(cards[2], codes[cardCode(cards[2])]);
+        assertNull(codes[1]);
+        assertSame(cards[3], pool[3]);
+    }
+
+    @Test
+    void test_cards() {
+        var column = new Column();
+
+        column.addAll(List.of(cards[2], cards[0], cards[1]));
+        column.openAt(1);
+
+        var state = PackedState.writer(Card::at).column(column).cards(new Card[]{null, cards[3]}).put(7).pack();
+
+        assertArrayEquals(new byte[]{3, 2, 0, 1, 2, (byte) NONE, 3, 7}, state.bytes());
+
+        var reader = state.reader(pool);
+
+        assertEquals(column, reader.column());
+        assertArrayEquals(new Card[]{null, cards[3]}, reader.cards(2));
+        assertEquals(7, reader.get());
+        assertTrue(reader.isDone());
+    }
+
+    @Test
+    void test_mask() {
+        var slots = range(0, 10).mapToObj(i -> i < 4 ? cards[i] : null).toArray(Card[]::new);
+
+        slots[1] = null;
+
+        var state = PackedState.writer(Card::at).mask(slots).pack();
+
+        assertEquals(2, state.size());
+        assertArrayEquals(slots, state.reader(pool).mask(10));
+    }
+
+    @Test
+    void test_equals() {
+        var a = PackedState.writer(Card::at).card(cards[1]).put(200).pack();
+        var b = PackedState.writer(Card::at).card(cards[1]).put(200).pack();
+        var c = PackedState.writer(Card::at).card(cards[2]).put(200).pack();
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+
+        var reader = a.reader(pool);
+
+        assertSame(cards[1], reader.card());
+        assertEquals(200, reader.get());
+    }
+
+    @Test
+    void test_writer_grow() {
+        var writer = PackedState.writer(Card::at);
+
+        range(0, 300).forEach(i -> writer.put(i % 256));
+
+        var reader = writer.pack().reader(pool);
+
+        range(0, 300).forEach(i -> assertEquals(i % 256, reader.get()));
+        assertTrue(reader.isDone());
+    }
+
+    @Test
+    void test_reader_notFound() {
+        var state = PackedState.writer(Card::at).put(9).pack();
+
+        assertThrows(RuntimeException.class, () -> state.reader(pool).card());
+    }
+}
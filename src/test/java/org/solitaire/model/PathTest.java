@@ -2,7 +2,13 @@ package org.solitaire.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PathTest {
     private final Path<String> path = new Path<>();
@@ -13,4 +19,61 @@ class PathTest {
         assertEquals("abc", path.peek());
     }
 
-}
\ No newline at end of file
+    @Test
+    void test_copy() {
+        path.add("a");
+        path.add("b");
+
+        var copy = new Path<>(path);
+
+        copy.add("c");
+        path.add("d");
+
+        assertEquals(List.of("a", "b", "d"), path);
+        assertEquals(List.of("a", "b", "c"), copy);
+        assertEquals("c", copy.peek());
+    }
+
+    @Test
+    void test_removeLast() {
+        path.add("a");
+        path.add("b");
+
+        assertEquals("b", path.removeLast());
+        assertEquals(List.of("a"), path);
+        assertEquals("a", path.removeLast());
+        assertTrue(path.isEmpty());
+        assertThrows(NoSuchElementException.class, path::removeLast);
+    }
+
+    @Test
+    void test_get() {
+        path.addAll(List.of("a", "b", "c"));
+
+        assertEquals("a", path.get(0));
+        assertEquals("c", path.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> path.get(3));
+    }
+
+    @Test
+    void test_contains() {
+        path.addAll(List.of("a", "b"));
+
+        assertTrue(path.contains("a"));
+        assertFalse(path.contains("c"));
+    }
+
+    @Test
+    void test_materialize() {
+        path.addAll(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c"), List.copyOf(path));
+        assertEquals("[a, b, c]", path.toString());
+        assertEquals(2, path.stream().filter(it -> !it.equals("b")).count());
+        assertThrows(UnsupportedOperationException.class, () -> path.listIterator(0).set("d"));
+
+        path.clear();
+        assertTrue(path.isEmpty());
+        assertEquals(List.of(), path);
+    }
+}
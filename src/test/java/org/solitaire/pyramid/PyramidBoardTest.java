@@ -2,15 +2,19 @@ package org.solitaire.pyramid;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
+import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.util.IOHelper;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.IntStream.range;
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -22,21 +26,23 @@ import static org.solitaire.model.Origin.REMOVE;
 import static org.solitaire.pyramid.PyramidHelper.LAST_BOARD;
 import static org.solitaire.pyramid.PyramidHelper.build;
 import static org.solitaire.util.CardHelper.buildCard;
-import static org.solitaire.util.CardHelper.card;
 import static org.solitaire.util.CardHelper.stringOfRaws;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class PyramidBoardTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     protected static final String TEST_FILE = "games/pyramid/pyramid-expert-121122-2.txt";
     static final String[] cards = IOHelper.loadFile(TEST_FILE);
 
     private PyramidBoard board;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        board = build(cards).board();
+        board = build(cards, LETTERS).board();
     }
 
     @Test
@@ -148,6 +154,36 @@ class PyramidBoardTest {
         assertEquals("50:Kh", board.deck().peek().toString());
     }
 
+    @Test
+    void test_recycle_emptyFlippedDeck() {
+        board.deck().clear();
+        board.flippedDeck().clear();
+        board.recycleCount(2);
+
+        assertNull(board.drawDeckCard());
+        assertEquals(1, board.recycleCount());
+    }
+
+    @Test
+    void test_encode() {
+        var initial = new PyramidBoard(board);
+        var state = board.encode();
+
+        board.updateBoard(board.findCandidates().get(0));
+
+        var moved = board.encode();
+        var result = initial.decode(moved);
+
+        assertNotEquals(state, moved);
+        assertEquals(moved, result.encode());
+        assertArrayEquals(board.cards(), result.cards());
+        assertEquals(board.deck(), result.deck());
+        assertEquals(board.flippedDeck(), result.flippedDeck());
+        assertEquals(board.recycleCount(), result.recycleCount());
+        assertEquals(board.hash(), result.hash());
+        assertTrue(result.path().isEmpty());
+    }
+
     @Test
     void test_cloneBoard() {
         var cloned = new PyramidBoard(board);
@@ -9,7 +9,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.pyramid.PyramidHelper.build;
 import static org.solitaire.pyramid.PyramidHelper.cardAt;
 import static org.solitaire.pyramid.PyramidHelper.countCardsCleared;
@@ -19,7 +18,6 @@ import static org.solitaire.pyramid.PyramidHelper.row;
 import static org.solitaire.pyramid.PyramidHelper.scoringOnly;
 import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class PyramidHelperTest {
     protected static final String TEST_FILE = "games/pyramid/pyramid-expert-030523.txt";
@@ -29,11 +27,8 @@ class PyramidHelperTest {
 
     @BeforeEach
     void setup() {
-        useSuit(false);
         if (pyramid == null) {
             pyramid = build(cards);
-            singleSolution(false);
-            Pyramid.isPrint(false);
             pyramid.solve();
         }
     }
@@ -70,7 +65,6 @@ class PyramidHelperTest {
         assertSame(b, cardAt(toArray(b, a)));
     }
 
-
     @Test
     void test_getScore() {
         var list = scoringOnly(pyramid.shortestPath());
@@ -8,10 +8,7 @@ import static java.util.Objects.isNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.pyramid.PyramidHelper.build;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class PyramidTest {
     protected static final String TEST_FILE = "games/pyramid/pyramid-expert-030523.txt";
@@ -21,9 +18,6 @@ class PyramidTest {
 
     @BeforeEach
     void setup() {
-        useSuit(false);
-        isPrint(false);
-        singleSolution(false);
         if (isNull(pyramid)) {
             pyramid = build(cards);
             assertThrows(NullPointerException.class, () -> pyramid.maxScore());
@@ -2,7 +2,9 @@ package org.solitaire.spider;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
+import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 
 import java.io.ByteArrayOutputStream;
@@ -19,20 +21,20 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.solitaire.execution.SolveExecutor.isPrint;
 import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
 import static org.solitaire.model.Origin.COLUMN;
 import static org.solitaire.spider.SpiderHelper.build;
 import static org.solitaire.util.CardHelper.VALUES;
-import static org.solitaire.util.CardHelper.card;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 import static org.solitaire.util.IOHelper.loadFile;
 
 class SpiderBoardTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     private static final String TEST_FILE = "games/spider/spider-expert-122922.txt";
     private static final String EASY_SPIDER_FILE = "games/spider/spider-easy-120322.txt";
 
@@ -53,11 +55,17 @@ class SpiderBoardTest {
         return column;
     }
 
+    private void dealAll() {
+        board.dealt(board.deck.size() / board.columns().size());
+    }
+
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        isPrint(true);
-        board = build(cards).board();
+        board = build(cards, LETTERS.isPrint(true)).board();
     }
 
     @Test
@@ -145,7 +153,7 @@ class SpiderBoardTest {
 
     @Test
     void test_optimizeCandidates() {
-        board.deck().clear();
+        dealAll();
         range(0, board.columns().size()).forEach(i -> board.column(i).clear());
         board.columns().set(0, mockRun(13));
         board.column(0).pop();
@@ -162,7 +170,7 @@ class SpiderBoardTest {
 
     @Test
     void test_findCandidates_emptyDeck() {
-        board.deck().clear();
+        dealAll();
         IntStream.of(0, 1, 2, 3, 4, 5, 7, 8, 9).forEach(i -> board.column(i).clear());
         board.columns().set(0, mockRun(13));
         board.column(0).pop();
@@ -218,6 +226,7 @@ class SpiderBoardTest {
         assertNotSame(board, copy);
         assertTrue(reflectionEquals(board, copy));
         assertTrue(copy.isInSequence().test(null, null));
+        assertTrue(copy.isPrint());
     }
 
     @Test
@@ -225,7 +234,7 @@ class SpiderBoardTest {
         assertFalse(board.isSolved());
 
         board.columns().forEach(List::clear);
-        board.deck.clear();
+        dealAll();
 
         assertTrue(board.isSolved());
     }
@@ -282,6 +291,62 @@ class SpiderBoardTest {
         assertTrue(result.path().isEmpty());
     }
 
+    @Test
+    void test_undo_run() {
+        var run = mockRun();
+        var ace = run.remove(12);
+        var candidate = candidate(ace, COLUMN, 1, COLUMN, 0);
+
+        board.columns().set(0, run.openAt(0));
+        board.column(1).add(ace);
+        board.isPrint(false);
+
+        var initial = new SpiderBoard(board);
+
+        board.apply(candidate);
+        assertTrue(board.column(0).isEmpty());
+        assertEquals(1, board.runs());
+        assertEquals(2, board.path().size());
+
+        board.undo(candidate);
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(0, board.runs());
+        assertEquals(12, board.column(0).size());
+    }
+
+    @Test
+    void test_undo_drawDeck() {
+        var initial = new SpiderBoard(board);
+        var candidate = board.drawDeck().get(0);
+
+        board.apply(candidate);
+        assertEquals(40, board.deck().size());
+
+        board.undo(candidate);
+        assertTrue(reflectionEquals(initial, board));
+        assertEquals(50, board.deck().size());
+        assertEquals(initial.hash(), board.hash());
+    }
+
+    @Test
+    void test_encode() {
+        var initial = new SpiderBoard(board);
+        var state = board.encode();
+
+        board.updateBoard(board.drawDeck().get(0));
+
+        var moved = board.encode();
+        var result = initial.decode(moved);
+
+        assertNotEquals(state, moved);
+        assertEquals(moved, result.encode());
+        assertEquals(board.columns(), result.columns());
+        assertEquals(board.deck(), result.deck());
+        assertEquals(board.runs(), result.runs());
+        assertTrue(result.path().isEmpty());
+        assertEquals(50, new SpiderBoard(board).decode(state).deck().size());
+    }
+
     @Test
     void test_checkForRuns_noRuns() {
         var column = board.column(0);
@@ -367,10 +432,23 @@ class SpiderBoardTest {
         board.column(0).clear();
         assertThrows(RuntimeException.class, () -> board.drawDeck());
 
-        board.deck().clear();
+        dealAll();
         assertTrue(board.drawDeck().isEmpty());
     }
 
+    @Test
+    void test_drawDeck_rows() {
+        board.updateBoard(board.drawDeck().get(0));
+
+        var candidate = board.drawDeck().get(0);
+
+        assertEquals(board.deck.subList(10, 20), List.of(candidate.cards()));
+        board.updateBoard(candidate);
+        range(0, board.columns().size()).forEach(i -> assertSame(board.deck.get(10 + i), board.column(i).peek()));
+        assertEquals(2, board.dealt());
+        assertEquals(30, board.deck().size());
+    }
+
     @Test
     void test_reduceCandidates() {
         var candidates = List.of(columnToColumn(board.peek(3), 3, 0),
@@ -406,11 +484,17 @@ class SpiderBoardTest {
     @Test
     void test_updateBoard() {
         var candidates = board.drawDeck();
-        var deck = board.deck();
+        var deck = board.deck;
+        var copy = new SpiderBoard(board);
 
         assertNotNull(board.updateBoard(candidates.get(0)));
 
-        assertNotSame(deck, board.deck);
+        assertSame(deck, board.deck);
+        assertSame(deck, copy.deck);
+        assertEquals(1, board.dealt());
+        assertEquals(0, copy.dealt());
+        assertEquals(deck.subList(10, deck.size()), board.deck());
+        assertThrows(UnsupportedOperationException.class, () -> board.deck().clear());
     }
 
     @Test
@@ -437,7 +521,7 @@ class SpiderBoardTest {
 
     @Test
     void test_singleSuit() {
-        var board = build(loadFile(EASY_SPIDER_FILE)).board();
+        var board = build(loadFile(EASY_SPIDER_FILE), LETTERS).board();
 
         assertEquals(0, board.verify().size());
         assertTrue(board.singleSuit());
@@ -1,7 +1,7 @@
 package org.solitaire.spider;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -16,17 +16,13 @@ import static org.solitaire.spider.SpiderHelper.LAST_LONG;
 import static org.solitaire.spider.SpiderHelper.NUM_LONG;
 import static org.solitaire.spider.SpiderHelper.build;
 import static org.solitaire.spider.SpiderHelper.calcColumn;
-import static org.solitaire.util.CardHelper.useSuit;
 
 class SpiderHelperTest {
-    @BeforeEach
-    void setup() {
-        useSuit(false);
-    }
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
 
     @Test
     void test_build() {
-        var state = build(cards).board();
+        var state = build(cards, LETTERS).board();
 
         assertNotNull(state);
         assertEquals(LAST_COLUMN, state.columns().size());
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.solitaire.execution.SolverConfig;
 import org.solitaire.model.Candidate;
 import org.solitaire.model.Path;
 
@@ -21,16 +22,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.solitaire.execution.GameBoardTest.cards;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
 import static org.solitaire.model.Candidate.candidate;
 import static org.solitaire.model.Candidate.columnToColumn;
 import static org.solitaire.model.Origin.COLUMN;
 import static org.solitaire.spider.Spider.SOLUTION_LIMIT;
-import static org.solitaire.spider.Spider.hsdDepth;
 import static org.solitaire.spider.SpiderHelper.build;
 import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
 import static org.solitaire.util.CardHelperTest.FIVE;
 import static org.solitaire.util.CardHelperTest.ONE;
 import static org.solitaire.util.CardHelperTest.SIX;
@@ -44,9 +41,6 @@ class SpiderTest {
 
     @BeforeEach
     void setup() {
-        useSuit(false);
-        isPrint(false);
-
         board = spy(board);
         spider = MockSpider.build();
         spider.cloner(i -> board);
@@ -58,12 +52,10 @@ class SpiderTest {
 
     @Test
     void test_solveByHSD() {
-        singleSolution(false);
-        hsdDepth(FIVE);
-        spider = build(cards);
-        assertTrue(singleSolution());
+        spider = build(cards, SolverConfig.DEFAULT.hsdDepth(FIVE));
+        assertTrue(spider.singleSolution());
 
-        assertEquals(SIX, hsdDepth());
+        assertEquals(SIX, spider.hsdDepth());
 
         range(0, 3).forEach(i -> spider.solveByHSD(spider.getBoard()));
         var board = spider.board();
@@ -73,7 +65,7 @@ class SpiderTest {
 
     @Test
     void test_isContinuing() {
-        singleSolution(false);
+        spider.config(spider.config().singleSolution(false));
         assertTrue(spider.isContinuing());
 
         spider.totalSolutions(SOLUTION_LIMIT - 1);
@@ -113,6 +105,7 @@ class SpiderTest {
         when(board.isSolved()).thenReturn(false);
         when(board.findCandidates()).thenReturn(mockCandidateList());
         when(board.updateBoard(candidate)).thenReturn(null);
+        when(board.path()).thenReturn(new Path<>());
 
         spider.solve();
 
@@ -177,7 +170,6 @@ class SpiderTest {
         }
 
         static MockSpider build() {
-            singleSolution(false);
             return new MockSpider(SpiderHelper.build(cards).board());
         }
 
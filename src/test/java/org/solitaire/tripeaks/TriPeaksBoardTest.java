@@ -4,10 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Card;
 
 import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -18,22 +22,24 @@ import static org.solitaire.tripeaks.TriPeaksHelper.LAST_BOARD;
 import static org.solitaire.tripeaks.TriPeaksHelper.LAST_DECK;
 import static org.solitaire.tripeaks.TriPeaksHelper.build;
 import static org.solitaire.util.CardHelper.buildCard;
-import static org.solitaire.util.CardHelper.card;
 import static org.solitaire.util.CardHelper.toArray;
-import static org.solitaire.util.CardHelper.useSuit;
 import static org.solitaire.util.CardHelperTest.ZERO;
 import static org.solitaire.util.IOHelper.loadFile;
 
 class TriPeaksBoardTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     static final String TEST_FILE = "games/tripeaks/tripeaks-120822-expert.txt";
     static final String[] cards = loadFile(TEST_FILE);
 
     private TriPeaksBoard board;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        board = build(cards).board();
+        board = build(cards, LETTERS).board();
     }
 
     @Test
@@ -113,6 +119,24 @@ class TriPeaksBoardTest {
         assertNull(board.updateBoard(null));
     }
 
+    @Test
+    void test_encode() {
+        var initial = new TriPeaksBoard(board);
+        var state = board.encode();
+
+        board.updateBoard(board.findCandidates().get(0));
+
+        var moved = board.encode();
+        var result = initial.decode(moved);
+
+        assertNotEquals(state, moved);
+        assertEquals(8, moved.size());
+        assertEquals(moved, result.encode());
+        assertArrayEquals(board.cards(), result.cards());
+        assertSame(board.wastePile().peek(), result.wastePile().peek());
+        assertEquals(board.hash(), result.hash());
+    }
+
     @Test
     void test_isOpenCard() {
         var state = new TriPeaksBoard(toArray(null, null, null, null, null), null);
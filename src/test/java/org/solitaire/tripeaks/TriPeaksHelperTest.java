@@ -37,7 +37,7 @@ class TriPeaksHelperTest {
 
     @Test
     void test_toCards() {
-        cards = toCards(new String[]{"Ad", "As"});
+        cards = toCards(new String[]{"Ad", "As"}, false);
 
         assertEquals(2, cards.length);
         assertEquals("0:" + cards[0].raw(), cards[0].toString());
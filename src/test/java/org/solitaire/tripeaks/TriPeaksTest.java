@@ -2,37 +2,49 @@ package org.solitaire.tripeaks;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Budget;
+import org.solitaire.model.CancellationToken;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.solitaire.model.Card;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.solitaire.execution.SolveExecutor.isPrint;
-import static org.solitaire.execution.SolveExecutor.singleSolution;
+import static org.solitaire.model.SolveResult.Status.CANCELLED;
+import static org.solitaire.model.SolveResult.Status.EXHAUSTED;
+import static org.solitaire.model.SolveResult.Status.OUT_OF_BUDGET;
+import static org.solitaire.model.SolveResult.Status.SOLVED;
+import static org.solitaire.model.SolveResult.Status.TIMED_OUT;
 import static org.solitaire.tripeaks.TriPeaksHelper.LAST_BOARD;
 import static org.solitaire.tripeaks.TriPeaksHelper.build;
-import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.IOHelper.loadFile;
 
 class TriPeaksTest {
+    private static final SolverConfig LETTERS = SolverConfig.DEFAULT.useSuit(false);
     static final String TEST_FILE = "games/tripeaks/tripeaks-120822-expert.txt";
 
     static final String[] cards = loadFile(TEST_FILE);
 
     private TriPeaks triPeaks;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        isPrint(false);
-        singleSolution(false);
-        triPeaks = build(cards);
+        triPeaks = build(cards, LETTERS);
     }
 
     @Test
     void test_solve() {
-        singleSolution(false);
         triPeaks.solve();
 
         assertEquals(3300, triPeaks.totalSolutions());
@@ -41,15 +53,73 @@ class TriPeaksTest {
         assertEquals(45, triPeaks.shortestPath().size());
         assertEquals(50, triPeaks.longestPath().size());
         assertEquals(16900, triPeaks.maxScore().getLeft());
+        assertEquals(SOLVED, triPeaks.status());
     }
 
     @Test
     void test_solve_HDS() {
-        singleSolution(true);
+        triPeaks = build(cards, LETTERS.singleSolution(true));
         triPeaks.solve();
 
         assertEquals(0, triPeaks.totalSolutions());
         assertEquals(1, triPeaks.maxDepth());
+        assertEquals(EXHAUSTED, triPeaks.status());
+    }
+
+    @Test
+    void test_solve_maxNodes() {
+        var result = triPeaks.solve(Budget.UNLIMITED.maxNodes(1000), new CancellationToken());
+
+        assertEquals(OUT_OF_BUDGET, result.status());
+        assertEquals(1000, result.totalScenarios());
+        assertEquals(triPeaks.totalSolutions(), result.totalSolutions());
+        assertNotNull(result.path());
+        assertFalse(result.path().isEmpty());
+    }
+
+    @Test
+    void test_solve_maxNodes_singleSolution() {
+        triPeaks.config(triPeaks.config().singleSolution(true).hsdDepth(10));
+
+        var result = triPeaks.solve(Budget.UNLIMITED.maxNodes(100), new CancellationToken());
+
+        assertEquals(OUT_OF_BUDGET, result.status());
+        assertEquals(100, result.totalScenarios());
+    }
+
+    @Test
+    void test_metrics() {
+        triPeaks.solve(Budget.UNLIMITED.maxNodes(1000), new CancellationToken());
+
+        var metrics = triPeaks.metrics();
+
+        assertEquals(1000, metrics.totalScenarios());
+        assertEquals(triPeaks.maxDepth(), metrics.maxDepth());
+        assertTrue(metrics.currentDepth() > 0);
+        assertTrue(metrics.frontierSize() > 0);
+        assertEquals(0, metrics.transpositionProbes());
+        assertTrue(metrics.nodesPerSecond() > 0);
+    }
+
+    @Test
+    void test_solve_timeLimit() {
+        var result = triPeaks.solve(Budget.UNLIMITED.timeLimit(Duration.ZERO), new CancellationToken());
+
+        assertEquals(TIMED_OUT, result.status());
+        assertTrue(result.totalScenarios() <= 1);
+    }
+
+    @Test
+    void test_solve_cancelled() {
+        var cancellation = new CancellationToken();
+        var solving = CompletableFuture.supplyAsync(() -> triPeaks.solve(Budget.UNLIMITED, cancellation));
+
+        cancellation.cancel();
+
+        var result = solving.join();
+
+        assertEquals(CANCELLED, result.status());
+        assertTrue(result.totalScenarios() < 850275);
     }
 
     @Test
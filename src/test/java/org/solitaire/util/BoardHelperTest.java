@@ -2,6 +2,8 @@ package org.solitaire.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.solitaire.execution.SolverConfig;
+import org.solitaire.model.Card;
 import org.solitaire.model.Column;
 import org.solitaire.spider.SpiderHelper;
 
@@ -17,18 +19,21 @@ import static org.solitaire.freecell.FreeCellHelper.build;
 import static org.solitaire.util.BoardHelper.isSingleSuit;
 import static org.solitaire.util.BoardHelper.numberOfEachCard;
 import static org.solitaire.util.BoardHelper.verifyBoard;
-import static org.solitaire.util.CardHelper.card;
-import static org.solitaire.util.CardHelper.useSuit;
+import static org.solitaire.util.CardHelper.DIAMOND;
+import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.IOHelper.loadFile;
 
 class BoardHelperTest {
     private static final String SPIDER_FILE = "games/spider/spider-easy-120322.txt";
     private List<Column> columns;
 
+    private static Card card(String value) {
+        return buildCard(0, value, false);
+    }
+
     @BeforeEach
     void setup() {
-        useSuit(false);
-        columns = build(loadFile(TEST_FILE)).board().columns();
+        columns = build(loadFile(TEST_FILE), SolverConfig.DEFAULT.useSuit(false)).board().columns();
     }
 
     @Test
@@ -86,4 +91,12 @@ class BoardHelperTest {
         assertEquals("Missing card: Tc", result.get(0));
     }
 
+    @Test
+    void test_verifyBoard_suits() {
+        var symbols = build(loadFile(TEST_FILE)).board().columns();
+
+        symbols.get(0).add(card("Ad"));
+        assertEquals(List.of("Extra card: A" + DIAMOND), verifyBoard(symbols));
+    }
+
 }
\ No newline at end of file
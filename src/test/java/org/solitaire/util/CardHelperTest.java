@@ -10,6 +10,8 @@ import org.solitaire.model.GameSolver;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.spy;
 import static org.solitaire.util.CardHelper.CLUB;
@@ -18,6 +20,7 @@ import static org.solitaire.util.CardHelper.HEART;
 import static org.solitaire.util.CardHelper.SPADE;
 import static org.solitaire.util.CardHelper.buildCard;
 import static org.solitaire.util.CardHelper.card;
+import static org.solitaire.util.CardHelper.cardCode;
 import static org.solitaire.util.CardHelper.checkDuplicates;
 import static org.solitaire.util.CardHelper.getSuit;
 import static org.solitaire.util.CardHelper.higherCardOfSameSuit;
@@ -44,7 +47,6 @@ public class CardHelperTest {
 
     @BeforeEach
     void setup() {
-        CardHelper.useSuit(false);
         gameSolver = spy(gameSolver);
         exception = spy(exception);
     }
@@ -58,11 +60,10 @@ public class CardHelperTest {
 
     @Test
     void test_suit() {
-        assertEquals("C", suit(0));
-        assertEquals("D", suit(1));
-        assertEquals("H", suit(2));
-        assertEquals("S", suit(3));
-        CardHelper.useSuit(true);
+        assertEquals("C", suit(0, false));
+        assertEquals("D", suit(1, false));
+        assertEquals("H", suit(2, false));
+        assertEquals("S", suit(3, false));
         assertEquals(CLUB, suit(0));
         assertEquals(DIAMOND, suit(1));
         assertEquals(HEART, suit(2));
@@ -77,11 +78,40 @@ public class CardHelperTest {
         assertEquals(CLUB, getSuit("c"));
     }
 
+    @Test
+    void test_buildCard_code() {
+        var card = buildCard(3, 2 * 13 + 9, false);
+
+        assertSame(buildCard(3, "Th", false), card);
+        assertEquals("Th", card.raw());
+        assertEquals("T" + HEART, buildCard(3, 35, true).raw());
+        assertEquals("Ks", buildCard(200, 51, false).raw());
+        assertEquals("Ac", buildCard(0, 0, false).raw());
+    }
+
+    @Test
+    void test_buildCard() {
+        var card = buildCard(3, "Th", false);
+
+        assertSame(card, buildCard(3, "Th", false));
+        assertNotSame(card, buildCard(4, "Th"));
+        assertEquals(card, buildCard(4, "Th"));
+        assertNotSame(card, buildCard(3, "TH"));
+        assertEquals(200, buildCard(200, "Th").at());
+
+        var symbol = buildCard(3, "Th");
+
+        assertEquals("T" + HEART, symbol.raw());
+        assertSame(symbol, buildCard(3, "Th", true));
+        assertEquals(card, symbol);
+        assertEquals(card.hashCode(), symbol.hashCode());
+    }
+
     @Test
     void test_toString() {
-        assertEquals("Ah", CardHelper.stringOfRaws(buildCard(1, "Ah")));
+        assertEquals("Ah", CardHelper.stringOfRaws(buildCard(1, "Ah", false)));
         assertEquals("[Ah, 9h]",
-                CardHelper.stringOfRaws(toArray(buildCard(1, "Ah"), buildCard(2, "9h"))));
+                CardHelper.stringOfRaws(toArray(buildCard(1, "Ah", false), buildCard(2, "9h", false))));
     }
 
     @Test
@@ -102,28 +132,38 @@ public class CardHelperTest {
 
     @Test
     void test_stringOfRaws() {
-        assertEquals("Ad", stringOfRaws(toArray(card("Ad"))));
-        assertEquals("[Ad, 2d]", stringOfRaws(toArray(card("Ad"), card("2d"))));
+        assertEquals("A" + DIAMOND, stringOfRaws(toArray(card("Ad"))));
+        assertEquals("[Ad, 2d]", stringOfRaws(toArray(buildCard(0, "Ad", false), buildCard(0, "2d", false))));
 
         assertEquals("[]", stringOfRaws(toArray()));
     }
 
+    @Test
+    void test_cardCode() {
+        assertEquals(0, cardCode(card("Ac")));
+        assertEquals(13, cardCode(card("Ad")));
+        assertEquals(38, cardCode(card("Kh")));
+        assertEquals(51, cardCode(card("Ks")));
+    }
+
     @Test
     void test_nextCard() {
-        assertEquals("2d", nextCard(card("Ad")).raw());
+        assertEquals("2" + DIAMOND, nextCard(card("Ad")).raw());
     }
 
     @Test
     void test_higherCardOfSameSuit() {
-        assertEquals("2h", higherCardOfSameSuit(card("Ah")).raw());
-        assertEquals("Kh", higherCardOfSameSuit(card("Kh")).raw());
+        assertEquals("2" + HEART, higherCardOfSameSuit(card("Ah")).raw());
+        assertEquals("K" + HEART, higherCardOfSameSuit(card("Kh")).raw());
     }
 
     @Test
     void test_string() {
-        assertEquals("Ad", string(List.of(card("Ad"))));
-        assertEquals("Ad, Ks", string(List.of(toArray(card("Ad"), card("Ks")))));
-        assertEquals("[Ad, Ks], Qh",
-                string(List.of(toArray(card("Ad"), card("Ks")), card("Qh"))));
+        var ace = buildCard(0, "Ad", false);
+        var king = buildCard(0, "Ks", false);
+
+        assertEquals("Ad", string(List.of(ace)));
+        assertEquals("Ad, Ks", string(List.of(toArray(ace, king))));
+        assertEquals("[Ad, Ks], Qh", string(List.of(toArray(ace, king), buildCard(0, "Qh", false))));
     }
 }
\ No newline at end of file
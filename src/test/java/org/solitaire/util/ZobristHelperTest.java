@@ -0,0 +1,116 @@
+package org.solitaire.util;
+
+import org.junit.jupiter.api.Test;
+import org.solitaire.model.Card;
+import org.solitaire.model.Origin;
+
+import java.rmi.AccessException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.solitaire.model.Candidate.columnToColumn;
+import static org.solitaire.model.Origin.COLUMN;
+import static org.solitaire.util.CardHelper.card;
+import static org.solitaire.util.CardHelper.toArray;
+import static org.solitaire.util.ZobristHelper.DECK;
+import static org.solitaire.util.ZobristHelper.FOUNDATION;
+import static org.solitaire.util.ZobristHelper.counterKey;
+import static org.solitaire.util.ZobristHelper.flagKey;
+import static org.solitaire.util.ZobristHelper.hash;
+import static org.solitaire.util.ZobristHelper.key;
+import static org.solitaire.util.ZobristHelper.moveKey;
+import static org.solitaire.util.ZobristHelper.openAtKey;
+import static org.solitaire.util.ZobristHelper.unorderedHash;
+
+class ZobristHelperTest {
+
+    @Test
+    void test_key() {
+        assertEquals(key(0, 0, card("Ad")), key(0, 0, card("Ad")));
+        assertNotEquals(key(0, 0, card("Ad")), key(0, 0, card("Ah")));
+        assertNotEquals(key(0, 0, card("Ad")), key(0, 1, card("Ad")));
+        assertNotEquals(key(0, 0, card("Ad")), key(1, 0, card("Ad")));
+        assertNotEquals(key(DECK, 0, card("Ad")), key(FOUNDATION, 0, card("Ad")));
+        assertEquals(0, key(0, 0, null));
+    }
+
+    @Test
+    void test_openAtKey() {
+        assertNotEquals(openAtKey(0, -1), openAtKey(0, 0));
+        assertNotEquals(openAtKey(0, 1), key(0, 2, card("Ad")));
+    }
+
+    @Test
+    void test_counterKey() {
+        assertNotEquals(counterKey(DECK, 10), counterKey(DECK, 20));
+    }
+
+    @Test
+    void test_flagKey() {
+        assertEquals(0, flagKey(0, false));
+        assertNotEquals(0, flagKey(0, true));
+        assertNotEquals(flagKey(0, true), flagKey(1, true));
+    }
+
+    @Test
+    void test_moveKey() {
+        assertEquals(moveKey("23:5"), moveKey("23:5"));
+        assertNotEquals(moveKey("23:5"), moveKey("32:5"));
+        assertNotEquals(0, moveKey(""));
+    }
+
+    @Test
+    void test_moveKey_candidate() {
+        var candidate = columnToColumn(toArray(card("Ks"), card("Qh")), 2, 5);
+
+        assertEquals(moveKey(candidate.notation()), moveKey(candidate));
+        assertNotEquals(moveKey(candidate), moveKey(columnToColumn(toArray(card("Ks"), card("Qd")), 2, 5)));
+    }
+
+    @Test
+    void test_moveKey_piles() {
+        var cards = hash(0, toArray(card("Ks"), card("Qh")));
+
+        assertEquals(moveKey(COLUMN, 2, COLUMN, 5, cards), moveKey(COLUMN, 2, COLUMN, 5, cards));
+        assertNotEquals(moveKey(COLUMN, 2, COLUMN, 5, cards), moveKey(COLUMN, 5, COLUMN, 2, cards));
+        assertNotEquals(moveKey(COLUMN, 2, COLUMN, 5, cards), moveKey(COLUMN, 2, Origin.FREECELL, 5, cards));
+        assertNotEquals(moveKey(COLUMN, 2, COLUMN, 5, cards), moveKey(COLUMN, 2, COLUMN, 5, cards + 1));
+    }
+
+    @Test
+    void test_hash() {
+        var cards = List.of(card("Ad"), card("Kc"));
+
+        assertEquals(key(3, 0, cards.get(0)) ^ key(3, 1, cards.get(1)), hash(3, cards));
+        assertEquals(hash(3, cards), hash(3, CardHelper.toArray(cards)));
+        assertEquals(0, hash(3, List.of()));
+    }
+
+    @Test
+    void test_unorderedHash() {
+        var piles = List.of(List.of(card("Ad"), card("Kc")), List.of(card("Qh"), card("Js")), List.<Card>of());
+        var swapped = List.of(List.<Card>of(), List.of(card("Qh"), card("Js")), List.of(card("Ad"), card("Kc")));
+        var crossed = List.of(List.of(card("Ad"), card("Js")), List.of(card("Qh"), card("Kc")), List.<Card>of());
+
+        assertEquals(unorderedHash(piles), unorderedHash(swapped));
+        assertNotEquals(unorderedHash(piles), unorderedHash(crossed));
+        assertEquals(0, unorderedHash(List.of(List.<Card>of())));
+        assertEquals(unorderedHash(piles), unorderedHash(new long[]{0, hash(0, piles.get(1)), hash(0, piles.get(0))}));
+    }
+
+    @Test
+    void test_unorderedHash_cards() {
+        var cards = toArray(card("Ad"), null, card("Kc"));
+
+        assertEquals(unorderedHash(DECK, cards), unorderedHash(DECK, toArray(null, card("Kc"), card("Ad"))));
+        assertNotEquals(unorderedHash(DECK, cards), unorderedHash(DECK, toArray(card("Ad"), null, null)));
+        assertNotEquals(hash(DECK, cards), hash(DECK, toArray(null, card("Kc"), card("Ad"))));
+    }
+
+    @Test
+    void test_constructor() {
+        assertThrows(AccessException.class, ZobristHelper::new);
+    }
+}